@@ -0,0 +1,43 @@
+-- 좋아요 테이블에 (유저, 대상) 유니크 제약을 추가하는 스크립트
+-- aws 프로필은 ddl-auto=validate로 실행되며, validate는 유니크 제약과 인덱스를 검사하지 않으므로 배포 전에 직접 실행해야 함
+-- 중복된 좋아요는 가장 먼저 추가된 행(최소 id)만 남기고, 남은 좋아요 행으로 좋아요 수를 다시 계산함
+
+start transaction;
+
+delete l from post_like l
+    join post_like kept
+        on kept.user_id = l.user_id
+        and kept.post_id = l.post_id
+        and kept.id < l.id;
+
+delete l from comment_like l
+    join comment_like kept
+        on kept.user_id = l.user_id
+        and kept.comment_id = l.comment_id
+        and kept.id < l.id;
+
+delete l from space_like l
+    join space_like kept
+        on kept.user_id = l.user_id
+        and kept.space_detail_id = l.space_detail_id
+        and kept.id < l.id;
+
+update post p
+set p.like_count = (select count(*) from post_like l where l.post_id = p.id);
+
+update comment c
+set c.like_count = (select count(*) from comment_like l where l.comment_id = c.id);
+
+update space_detail d
+set d.like_count = (select count(*) from space_like l where l.space_detail_id = d.id);
+
+commit;
+
+alter table post_like
+    add constraint post_like_uq_user_id_post_id unique (user_id, post_id);
+
+alter table comment_like
+    add constraint comment_like_uq_user_id_comment_id unique (user_id, comment_id);
+
+alter table space_like
+    add constraint space_like_uq_user_id_space_detail_id unique (user_id, space_detail_id);
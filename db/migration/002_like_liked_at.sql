@@ -0,0 +1,28 @@
+-- 좋아요 목록의 키셋 페이지네이션을 위해 liked_at 컬럼과 (user_id, liked_at, id) 인덱스를 추가하는 스크립트
+-- aws 프로필은 ddl-auto=validate로 실행되므로 배포 전에 직접 실행해야 함
+-- 기존 좋아요에는 좋아요한 시각이 기록되어 있지 않으므로, 스크립트 실행 시각으로 채운 뒤 NOT NULL로 변경함
+-- 같은 시각으로 채워진 좋아요끼리는 id 역순으로 정렬됨
+
+alter table post_like
+    add column liked_at datetime(6) null;
+
+alter table space_like
+    add column liked_at datetime(6) null;
+
+update post_like
+set liked_at = now(6)
+where liked_at is null;
+
+update space_like
+set liked_at = now(6)
+where liked_at is null;
+
+alter table post_like
+    modify liked_at datetime(6) not null;
+
+alter table space_like
+    modify liked_at datetime(6) not null;
+
+create index post_like_idx_user_id_liked_at on post_like (user_id, liked_at, id);
+
+create index space_like_idx_user_id_liked_at on space_like (user_id, liked_at, id);
@@ -0,0 +1,14 @@
+-- 엔티티 행의 @Lob 사진 컬럼을 사진 저장소(PhotoStorage)의 내용 해시 컬럼으로 바꾸기 위한 1단계 스크립트
+-- aws 프로필은 ddl-auto=validate로 실행되므로 배포 전에 직접 실행해야 함
+-- 해시 컬럼을 nullable로 추가만 하며, 기존 사진 컬럼은 그대로 남겨 둠
+-- 이후 planfit.photo.migration.enabled=true로 애플리케이션을 실행하면 LegacyPhotoMigration이 기존 사진을 사진 저장소로 옮기고 해시를 채움
+-- 작업이 끝나면 004_photo_drop_blob_columns.sql로 NOT NULL 제약을 걸고 기존 사진 컬럼을 삭제함
+
+alter table space_photo
+    add column content_hash varchar(64) null;
+
+alter table post_photo
+    add column photo_hash varchar(64) null;
+
+alter table `user`
+    add column profile_photo_hash varchar(64) null;
@@ -0,0 +1,21 @@
+-- 사진 이전의 2단계 스크립트로, LegacyPhotoMigration 작업이 끝난 뒤 실행해야 함
+-- 아래 조회 결과가 모두 0이 아니면 옮겨지지 않은 사진이 남아 있으므로, 작업을 다시 실행한 뒤 진행함
+--   select count(*) from space_photo where content_hash is null;
+--   select count(*) from post_photo where photo_hash is null;
+--   select count(*) from `user` where profile_photo_hash is null and profile_photo is not null;
+-- 프로필 사진은 없을 수 있으므로 profile_photo_hash는 nullable로 유지함
+
+alter table space_photo
+    modify content_hash varchar(64) not null;
+
+alter table post_photo
+    modify photo_hash varchar(64) not null;
+
+alter table space_photo
+    drop column `value`;
+
+alter table post_photo
+    drop column photo;
+
+alter table `user`
+    drop column profile_photo;
@@ -0,0 +1,65 @@
+-- space_detail.google_places_identifier에 유니크 제약을 추가하는 스크립트
+-- aws 프로필은 ddl-auto=validate로 실행되며, validate는 유니크 제약을 검사하지 않으므로 배포 전에 직접 실행해야 함
+-- 같은 식별자의 장소가 여러 행이면 가장 먼저 추가된 행(최소 id)만 남기고, 나머지 행을 참조하던 행들을 남는 행으로 옮긴 뒤 삭제함
+-- 옮기면서 생기는 중복 좋아요는 삭제하고 좋아요 수를 다시 계산함 (001_like_unique_constraints.sql 이후에 실행)
+-- 옮기면서 생기는 중복 사진은 006_space_photo_unique_content_hash.sql에서 정리함
+
+-- 중복 행 id -> 남는 행 id 매핑 (임시 테이블은 한 쿼리에서 두 번 참조할 수 없어 일반 테이블로 만들고 마지막에 삭제함)
+create table space_detail_merge as
+select d.id as duplicate_id, kept.kept_id
+from space_detail d
+    join (select google_places_identifier, min(id) as kept_id
+          from space_detail
+          group by google_places_identifier
+          having count(*) > 1) kept
+        on kept.google_places_identifier = d.google_places_identifier
+        and d.id <> kept.kept_id;
+
+start transaction;
+
+update space s
+    join space_detail_merge m on m.duplicate_id = s.space_detail_id
+set s.space_detail_id = m.kept_id;
+
+update space_photo p
+    join space_detail_merge m on m.duplicate_id = p.space_detail_id
+set p.space_detail_id = m.kept_id;
+
+update rating r
+    join space_detail_merge m on m.duplicate_id = r.space_detail_id
+set r.space_detail_id = m.kept_id;
+
+-- 남는 장소에 이미 좋아요한 유저의 좋아요는 옮기지 않고 삭제함
+delete l from space_like l
+    join space_detail_merge m on m.duplicate_id = l.space_detail_id
+    join space_like kept_like
+        on kept_like.space_detail_id = m.kept_id
+        and kept_like.user_id = l.user_id;
+
+-- 여러 중복 행에 같은 유저의 좋아요가 있으면 하나만 남김
+delete l from space_like l
+    join space_detail_merge m on m.duplicate_id = l.space_detail_id
+    join space_like other
+        on other.user_id = l.user_id
+        and other.id < l.id
+    join space_detail_merge other_merge
+        on other_merge.duplicate_id = other.space_detail_id
+        and other_merge.kept_id = m.kept_id;
+
+update space_like l
+    join space_detail_merge m on m.duplicate_id = l.space_detail_id
+set l.space_detail_id = m.kept_id;
+
+delete d from space_detail d
+    join space_detail_merge m on m.duplicate_id = d.id;
+
+update space_detail d
+set d.like_count = (select count(*) from space_like l where l.space_detail_id = d.id)
+where d.id in (select kept_id from space_detail_merge);
+
+commit;
+
+drop table space_detail_merge;
+
+alter table space_detail
+    add constraint space_detail_uq_google_places_identifier unique (google_places_identifier);
@@ -0,0 +1,14 @@
+-- space_photo에 (space_detail_id, content_hash) 유니크 제약을 추가하는 스크립트
+-- aws 프로필은 ddl-auto=validate로 실행되며, validate는 유니크 제약을 검사하지 않으므로 배포 전에 직접 실행해야 함
+-- content_hash가 모두 채워져 있어야 하므로 004_photo_drop_blob_columns.sql과
+-- 005_space_detail_unique_google_places_identifier.sql 이후에 실행함
+-- 한 장소에 같은 내용의 사진이 여러 행이면 가장 먼저 추가된 행(최소 id)만 남김 (사진 파일은 내용 해시로 한 번만 저장되어 있음)
+
+delete p from space_photo p
+    join space_photo kept
+        on kept.space_detail_id = p.space_detail_id
+        and kept.content_hash = p.content_hash
+        and kept.id < p.id;
+
+alter table space_photo
+    add constraint space_photo_uq_space_detail_id_content_hash unique (space_detail_id, content_hash);
@@ -0,0 +1,41 @@
+-- 리프레쉬 토큰을 해시와 회전(rotation) 정보로 저장하는 refresh_token 테이블로 바꾸는 스크립트
+-- aws 프로필은 ddl-auto=validate로 실행되므로 배포 전에 직접 실행해야 함
+-- 기존 토큰은 원문으로 저장되어 있어 새 형식으로 옮길 수 없으므로 삭제하며, 기존 로그인은 다시 로그인해야 함
+
+-- user.refresh_token_id의 외래 키 이름은 Hibernate가 생성한 것이므로 information_schema에서 찾아 삭제함
+set @refresh_token_fk = (
+    select constraint_name
+    from information_schema.key_column_usage
+    where table_schema = database()
+        and table_name = 'user'
+        and column_name = 'refresh_token_id'
+        and referenced_table_name = 'refresh_token'
+    limit 1
+);
+set @drop_refresh_token_fk = if(
+    @refresh_token_fk is null,
+    'select 1',
+    concat('alter table `user` drop foreign key `', @refresh_token_fk, '`')
+);
+prepare drop_refresh_token_fk from @drop_refresh_token_fk;
+execute drop_refresh_token_fk;
+deallocate prepare drop_refresh_token_fk;
+
+alter table `user`
+    drop column refresh_token_id;
+
+drop table refresh_token;
+
+create table refresh_token (
+    id bigint not null auto_increment,
+    token_hash varchar(64) not null,
+    user_id bigint not null,
+    family_id varchar(36) not null,
+    expires_at datetime(6) not null,
+    revoked bit not null,
+    primary key (id),
+    constraint refresh_token_uq_token_hash unique (token_hash),
+    index refresh_token_idx_user_id (user_id),
+    index refresh_token_idx_family_id (family_id),
+    index refresh_token_idx_expires_at (expires_at)
+) engine = InnoDB;
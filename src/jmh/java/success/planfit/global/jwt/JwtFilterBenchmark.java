@@ -0,0 +1,60 @@
+package success.planfit.global.jwt;
+
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import success.planfit.entity.user.PlanfitUser;
+import success.planfit.entity.user.User;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * JwtFilter 한 번의 통과(헤더 추출 -> 검증 -> SecurityContext 설정)에 드는 비용 측정
+ *
+ * ./gradlew jmh -Pjmh.includes=JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString("planfit-jmh-benchmark-secret-key-0123456789".getBytes());
+    private static final long VALIDITY_TIME = Duration.ofHours(1).toMillis();
+
+    @Param({"true", "false"})
+    public boolean verifiedTokenCache;
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        TokenProvider tokenProvider = new TokenProvider(SECRET, VALIDITY_TIME, verifiedTokenCache, 10_000L, Duration.ofMinutes(5));
+        jwtFilter = new JwtFilter(tokenProvider);
+
+        User user = PlanfitUser.builder()
+                .loginId("benchmark")
+                .password("benchmark")
+                .name("benchmark")
+                .email("benchmark@email.com")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + tokenProvider.createToken(user, TokenType.ACCESS));
+    }
+
+    @Benchmark
+    public MockFilterChain doFilter() throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain();
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        SecurityContextHolder.clearContext();
+
+        return filterChain;
+    }
+
+}
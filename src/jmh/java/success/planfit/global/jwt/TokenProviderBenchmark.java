@@ -0,0 +1,94 @@
+package success.planfit.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import success.planfit.entity.user.PlanfitUser;
+import success.planfit.entity.user.User;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 요청마다 실행되는 토큰 생성/검증/Claims 추출/헤더 처리의 처리량과 할당량 측정
+ * 검증 캐시를 끈 TokenProvider로 서명 검증 비용을, 켠 TokenProvider로 캐시 적중 비용을 각각 측정함
+ * 캐시를 끈 TokenProvider는 캐시를 거치지 않고 매번 parser.parseClaimsJws를 호출함
+ *
+ * ./gradlew jmh -Pjmh.includes=TokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString("planfit-jmh-benchmark-secret-key-0123456789".getBytes());
+    private static final long VALIDITY_TIME = Duration.ofHours(1).toMillis();
+
+    private TokenProvider cachedTokenProvider;
+    private TokenProvider uncachedTokenProvider;
+    private User user;
+    private String accessToken;
+    private MockHttpServletRequest bearerRequest;
+    private MockHttpServletRequest emptyRequest;
+
+    @Setup
+    public void setUp() {
+        cachedTokenProvider = new TokenProvider(SECRET, VALIDITY_TIME, true, 10_000L, Duration.ofMinutes(5));
+        uncachedTokenProvider = new TokenProvider(SECRET, VALIDITY_TIME, false, 10_000L, Duration.ofMinutes(5));
+
+        user = PlanfitUser.builder()
+                .loginId("benchmark")
+                .password("benchmark")
+                .name("benchmark")
+                .email("benchmark@email.com")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        accessToken = cachedTokenProvider.createToken(user, TokenType.ACCESS);
+
+        bearerRequest = new MockHttpServletRequest();
+        bearerRequest.addHeader("Authorization", "Bearer " + accessToken);
+        emptyRequest = new MockHttpServletRequest();
+    }
+
+    @Benchmark
+    public String createToken() {
+        return cachedTokenProvider.createToken(user, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedTokenProvider.validateToken(accessToken, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachedTokenProvider.validateToken(accessToken, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return uncachedTokenProvider.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public Optional<Authentication> authenticate() {
+        return uncachedTokenProvider.authenticate(accessToken, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public Optional<Authentication> authenticateCached() {
+        return cachedTokenProvider.authenticate(accessToken, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public String resolveToken() {
+        return cachedTokenProvider.resolveToken(bearerRequest);
+    }
+
+    @Benchmark
+    public String resolveTokenWithoutHeader() {
+        return cachedTokenProvider.resolveToken(emptyRequest);
+    }
+
+}
@@ -2,7 +2,8 @@ package success.planfit.comment.dto;
 
 import lombok.Builder;
 import success.planfit.entity.comment.Comment;
-import success.planfit.global.photo.PhotoProvider;
+import success.planfit.global.photo.PhotoJson;
+import success.planfit.global.photo.PhotoSize;
 
 import java.time.LocalDateTime;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 public class CommentInfoDto {
 
     private String username;
+    @PhotoJson(size = PhotoSize.SMALL)
     private String userPhoto;
     private String content;
     private LocalDateTime createdAt;
@@ -18,7 +20,7 @@ public class CommentInfoDto {
     public static CommentInfoDto from(Comment comment) {
         return CommentInfoDto.builder()
                 .username(comment.getUser().getName())
-                .userPhoto(PhotoProvider.encode(comment.getUser().getProfilePhoto()))
+                .userPhoto(comment.getUser().getProfilePhotoHash())
                 .content(comment.getContent())
                 .createdAt(comment.getCreatedAt())
                 .likeCount(comment.getLikeCount())
@@ -4,52 +4,45 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import success.planfit.entity.comment.Comment;
-import success.planfit.entity.like.CommentLike;
-import success.planfit.entity.post.Post;
-import success.planfit.entity.user.User;
 import success.planfit.repository.CommentLikeRepository;
-import success.planfit.repository.PostRepository;
-import success.planfit.repository.UserRepository;
+import success.planfit.repository.CommentRepository;
 
 @Service
 @Transactional
 @AllArgsConstructor
 public class CommentLikeService {
 
-    private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
 
+    /**
+     * 댓글 좋아요를 추가하는 메서드로, 이미 좋아요한 댓글이면 아무것도 변경하지 않음
+     * 좋아요가 실제로 추가된 경우에만 좋아요 수를 증가시킴
+     */
     public void likeComment(Long userId, Long postId, Long commentId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("회원이 존재하지 않음"));
+        if (commentLikeRepository.insertIfAbsent(userId, postId, commentId) == 0) {
+            validateCommentExists(postId, commentId);
+            return;
+        }
 
-        Post post = postRepository.findByIdWithComment(postId)
-                .orElseThrow(() -> new EntityNotFoundException("포스트가 존재하지 않음"));
-
-        Comment comment = post.getComments().stream()
-                .filter(c -> c.getId().equals(commentId))
-                .findAny()
-                .orElseThrow(() -> new EntityNotFoundException("포스트가 존재하지 않음"));
-
-        CommentLike commentLike = CommentLike.builder()
-                .user(user)
-                .comment(comment)
-                .build();
-
-        comment.increaseLikeCount();
-        commentLikeRepository.save(commentLike);
+        commentRepository.increaseLikeCount(commentId);
     }
 
+    /**
+     * 댓글 좋아요를 취소하는 메서드로, 좋아요하지 않은 댓글이면 아무것도 변경하지 않음
+     */
     public void unlikeComment(Long userId, Long postId, Long commentId) {
-        CommentLike commentLike = commentLikeRepository.findByUserIdAndCommentId(userId, commentId).stream()
-                .filter(commentLikeForFilter -> commentLikeForFilter.getComment().getPost().getId().equals(postId))
-                .findAny()
-                .orElseThrow(() -> new EntityNotFoundException("포스트가 존재하지 않음"));
+        if (commentLikeRepository.deleteByUserIdAndCommentId(userId, postId, commentId) == 0) {
+            return;
+        }
+
+        commentRepository.decreaseLikeCount(commentId);
+    }
 
-        commentLike.getComment().decreaseLikeCount();
-        commentLikeRepository.delete(commentLike);
+    private void validateCommentExists(long postId, long commentId) {
+        if (!commentRepository.existsByIdAndPostId(commentId, postId)) {
+            throw new EntityNotFoundException("댓글이 존재하지 않음");
+        }
     }
 
 }
@@ -2,12 +2,14 @@ package success.planfit.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import success.planfit.comment.dto.CommentSaveRequestDto;
 import success.planfit.entity.comment.Comment;
 import success.planfit.entity.post.Post;
 import success.planfit.entity.user.User;
+import success.planfit.post.event.PostActivityEvent;
 import jakarta.persistence.EntityNotFoundException;
 import success.planfit.repository.CommentLikeRepository;
 import success.planfit.repository.PostRepository;
@@ -26,6 +28,7 @@ public class CommentService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void registerComment(long userId, long postId, CommentSaveRequestDto requestDto){
         // 유저 조회
@@ -44,6 +47,7 @@ public class CommentService {
 
         post.addComment(comment);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostActivityEvent(post.getId(), post.getCreatedAt(), PostActivityEvent.Type.COMMENTED));
     }
 
     public void removeComment(long userId, long postId, long commentId){
@@ -60,5 +64,6 @@ public class CommentService {
         // 해당 댓글의 댓글 좋아요 모두 삭제
         commentLikeRepository.deleteAllByCommentId(commentId);
         post.removeComment(comment);
+        eventPublisher.publishEvent(new PostActivityEvent(post.getId(), post.getCreatedAt(), PostActivityEvent.Type.UNCOMMENTED));
     }
 }
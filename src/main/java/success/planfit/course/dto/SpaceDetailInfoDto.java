@@ -5,12 +5,12 @@ import lombok.Getter;
 import success.planfit.entity.space.SpaceDetail;
 import success.planfit.entity.space.SpacePhoto;
 import success.planfit.entity.space.SpaceType;
-import success.planfit.global.photo.PhotoProvider;
+import success.planfit.global.photo.PhotoJson;
 
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class SpaceDetailInfoDto implements Comparable<SpaceDetailInfoDto> {
     private final String googlePlacesIdentifier;
     private final String spaceName;
@@ -20,14 +20,14 @@ public class SpaceDetailInfoDto implements Comparable<SpaceDetailInfoDto> {
     private final Double latitude;
     private final Double longitude;
     private final long likeCount;
+    @PhotoJson
     private final List<String> spacePhotos;
     private int similarityOrder;
 
 
     public static SpaceDetailInfoDto of(SpaceDetail spaceDetail) {
         List<String> spacePhotos = spaceDetail.getSpacePhotos().stream()
-                .map(SpacePhoto::getValue)
-                .map(PhotoProvider::encode)
+                .map(SpacePhoto::getContentHash)
                 .toList();
 
         return SpaceDetailInfoDto.builder()
@@ -7,7 +7,7 @@ import success.planfit.entity.space.Space;
 import success.planfit.entity.space.SpaceDetail;
 import success.planfit.entity.space.SpacePhoto;
 import success.planfit.entity.space.SpaceType;
-import success.planfit.global.photo.PhotoProvider;
+import success.planfit.global.photo.PhotoJson;
 
 import java.util.List;
 
@@ -27,13 +27,13 @@ public class SpaceResponseDto implements Comparable<SpaceResponseDto>{
     private final Double latitude;
     private final Double longitude;
     private final long likeCount;
+    @PhotoJson
     private final List<String> spacePhotos;
 
     public static SpaceResponseDto createSpaceDto(Space space) {
         SpaceDetail spaceDetail = space.getSpaceDetail();
         List<String> spacePhotos = spaceDetail.getSpacePhotos().stream()
-                .map(SpacePhoto::getValue)
-                .map(PhotoProvider::encode)
+                .map(SpacePhoto::getContentHash)
                 .toList();
 
         return SpaceResponseDto.builder()
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import success.planfit.entity.post.Post;
 import success.planfit.entity.user.User;
 import success.planfit.global.BaseEntity;
@@ -13,6 +14,7 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = PROTECTED)
 public class Comment extends BaseEntity {
 
@@ -33,6 +35,9 @@ public class Comment extends BaseEntity {
     @Column(nullable = false)
     private String content;
 
+    /**
+     * 동시 요청에도 유실되지 않도록 CommentRepository의 원자적 update 쿼리로만 변경함
+     */
     @Column(nullable = false)
     private Long likeCount;
 
@@ -48,15 +53,4 @@ public class Comment extends BaseEntity {
         this.likeCount = 0L;
     }
 
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount < 0) {
-            throw new IllegalStateException("좋아요를 취소할 수 없음");
-        }
-        this.likeCount--;
-    }
-
 }
@@ -13,6 +13,9 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "comment_like_uq_user_id_comment_id", columnNames = {"user_id", "comment_id"})
+})
 public class CommentLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
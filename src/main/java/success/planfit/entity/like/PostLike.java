@@ -8,11 +8,21 @@ import lombok.Setter;
 import success.planfit.entity.post.Post;
 import success.planfit.entity.user.User;
 
+import java.time.LocalDateTime;
+
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "post_like_uq_user_id_post_id", columnNames = {"user_id", "post_id"})
+        },
+        indexes = {
+                @Index(name = "post_like_idx_user_id_liked_at", columnList = "user_id, liked_at, id")
+        }
+)
 public class PostLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,10 +37,14 @@ public class PostLike {
     @ManyToOne(fetch = FetchType.LAZY)
     private Post post;
 
+    @Column(nullable = false)
+    private LocalDateTime likedAt;
+
     @Builder
     private PostLike(User user, Post post){
         this.user = user;
         this.post = post;
+        this.likedAt = LocalDateTime.now();
     }
 
 }
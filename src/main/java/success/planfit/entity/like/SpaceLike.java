@@ -7,11 +7,21 @@ import lombok.NoArgsConstructor;
 import success.planfit.entity.space.SpaceDetail;
 import success.planfit.entity.user.User;
 
+import java.time.LocalDateTime;
+
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "space_like_uq_user_id_space_detail_id", columnNames = {"user_id", "space_detail_id"})
+        },
+        indexes = {
+                @Index(name = "space_like_idx_user_id_liked_at", columnList = "user_id, liked_at, id")
+        }
+)
 public class SpaceLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,10 +35,14 @@ public class SpaceLike {
     @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
+    @Column(nullable = false)
+    private LocalDateTime likedAt;
+
     @Builder
     private SpaceLike(SpaceDetail spaceDetail, User user){
         this.spaceDetail = spaceDetail;
         this.user = user;
+        this.likedAt = LocalDateTime.now();
     }
 
 }
@@ -9,6 +9,7 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import success.planfit.entity.comment.Comment;
 import success.planfit.entity.course.Course;
 import success.planfit.entity.user.User;
@@ -21,6 +22,13 @@ import java.util.List;
 
 @Getter
 @Entity
+@DynamicUpdate
+@Table(
+        indexes = {
+                @Index(name = "post_idx_created_at_id", columnList = "created_at, id"),
+                @Index(name = "post_idx_like_count_id", columnList = "like_count, id")
+        }
+)
 @NoArgsConstructor(access = PROTECTED)
 public class Post extends BaseEntity {
 
@@ -50,6 +58,9 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private Boolean isPublic;
 
+    /**
+     * 동시 요청에도 유실되지 않도록 PostRepository의 원자적 update 쿼리로만 변경함
+     */
     @Column(nullable = false)
     private long likeCount;
 
@@ -91,16 +102,6 @@ public class Post extends BaseEntity {
         comment.setPost(null);
     }
 
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     /**
      * Post - PostPhoto 연관관계 편의 메서드(전체 생성)
      */
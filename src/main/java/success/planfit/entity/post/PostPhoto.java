@@ -24,17 +24,19 @@ public class PostPhoto {
     @ManyToOne(fetch = LAZY)
     private Post post;
 
-    @Column(nullable = false)
-    @Lob
-    private byte[] photo;
+    /**
+     * 사진 저장소(PhotoStorage)에 저장된 사진의 내용 해시
+     */
+    @Column(nullable = false, length = 64)
+    private String photoHash;
 
     @Builder
     private PostPhoto(
             Post post,
-            byte[] photo
+            String photoHash
     ) {
         this.post = post;
-        this.photo = photo;
+        this.photoHash = photoHash;
     }
 
 }
@@ -20,6 +20,14 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "schedule_uq_share_serial", columnNames = {"share_serial"})
+        },
+        indexes = {
+                @Index(name = "schedule_idx_user_id_date", columnList = "user_id, date")
+        }
+)
 public class Schedule implements Comparable<Schedule> {
 
     @Id
@@ -2,11 +2,13 @@ package success.planfit.entity.space;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import success.planfit.course.dto.SpaceDetailInfoDto;
 import success.planfit.entity.rating.Rating;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import static jakarta.persistence.CascadeType.ALL;
 
@@ -15,6 +17,10 @@ import static jakarta.persistence.CascadeType.ALL;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Entity
+@DynamicUpdate
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "space_detail_uq_google_places_identifier", columnNames = {"google_places_identifier"})
+})
 public class SpaceDetail {
 
     @Id
@@ -46,6 +52,9 @@ public class SpaceDetail {
 
     private Double longitude;
 
+    /**
+     * 동시 요청에도 유실되지 않도록 SpaceDetailRepository의 원자적 update 쿼리로만 변경함
+     */
     @Column(nullable = false)
     private long likeCount;
 
@@ -69,16 +78,6 @@ public class SpaceDetail {
         this.likeCount = 0L;
     }
 
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
     /**
      * SpaceDetail - Rating 연관관계 편의 메서드(생성)
      */
@@ -95,6 +94,15 @@ public class SpaceDetail {
         this.spacePhotos.addAll(spacePhotos);
     }
 
+    public boolean hasSameInfo(SpaceDetailInfoDto requestDto) {
+        return Objects.equals(this.spaceName, requestDto.getSpaceName())
+                && Objects.equals(this.location, requestDto.getLocation())
+                && this.spaceType == requestDto.getSpaceType()
+                && Objects.equals(this.link, requestDto.getLink())
+                && Objects.equals(this.longitude, requestDto.getLongitude())
+                && Objects.equals(this.latitude, requestDto.getLatitude());
+    }
+
     public void update(SpaceDetailInfoDto requestDto){
         this.spaceName = requestDto.getSpaceName();
         this.location = requestDto.getLocation();
@@ -5,7 +5,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import success.planfit.global.photo.PhotoProvider;
 
 import java.util.List;
 
@@ -16,6 +15,9 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "space_photo_uq_space_detail_id_content_hash", columnNames = {"space_detail_id", "content_hash"})
+})
 public class SpacePhoto {
 
     @Id
@@ -26,26 +28,29 @@ public class SpacePhoto {
     @ManyToOne(fetch = LAZY)
     private SpaceDetail spaceDetail;
 
-    @Lob
-    @Column(nullable = false)
-    private byte[] value;
+    /**
+     * 사진 저장소(PhotoStorage)에 저장된 사진의 내용 해시
+     */
+    @Column(nullable = false, length = 64)
+    private String contentHash;
 
     @Builder
     private SpacePhoto(
             SpaceDetail spaceDetail,
-            byte[] value
+            String contentHash
     ) {
         this.spaceDetail = spaceDetail;
-        this.value = value;
+        this.contentHash = contentHash;
     }
 
-    public static List<SpacePhoto> createSpacePhoto(List<String> spacePhotos){
-        return spacePhotos.stream()
-                .map(PhotoProvider::decode)
-                .map(spacePhotoForFilter ->
-                {return SpacePhoto.builder()
-                        .value(spacePhotoForFilter)
-                        .build();})
+    /**
+     * 사진 저장소에 저장된 사진들의 내용 해시로 SpacePhoto를 생성하는 메서드
+     */
+    public static List<SpacePhoto> createSpacePhoto(List<String> contentHashes){
+        return contentHashes.stream()
+                .map(contentHash -> SpacePhoto.builder()
+                        .contentHash(contentHash)
+                        .build())
                 .toList();
     }
 }
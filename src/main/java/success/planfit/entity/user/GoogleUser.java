@@ -17,8 +17,8 @@ public class GoogleUser extends User {
     private String googleIdentifier;
 
     @Builder
-    private GoogleUser(String name, String phoneNumber, LocalDate birthOfDate, IdentityType identity, String email, byte[] profilePhoto, String googleIdentifier) {
-        super(name, phoneNumber, birthOfDate, identity, email, profilePhoto);
+    private GoogleUser(String name, String phoneNumber, LocalDate birthOfDate, IdentityType identity, String email, String profilePhotoHash, String googleIdentifier) {
+        super(name, phoneNumber, birthOfDate, identity, email, profilePhotoHash);
         this.googleIdentifier = googleIdentifier;
     }
 }
@@ -18,8 +18,8 @@ public class KakaoUser extends User {
     private Long kakaoIdentifier;
 
     @Builder
-    private KakaoUser(String name, String phoneNumber, LocalDate birthOfDate, IdentityType identity, String email, byte[] profilePhoto, Long kakaoIdentifier) {
-        super(name, phoneNumber, birthOfDate, identity, email, profilePhoto);
+    private KakaoUser(String name, String phoneNumber, LocalDate birthOfDate, IdentityType identity, String email, String profilePhotoHash, Long kakaoIdentifier) {
+        super(name, phoneNumber, birthOfDate, identity, email, profilePhotoHash);
         this.kakaoIdentifier = kakaoIdentifier;
     }
 }
@@ -23,8 +23,8 @@ public class PlanfitUser extends User {
     private String password;
 
     @Builder
-    private PlanfitUser(String name, String phoneNumber, LocalDate birthOfDate, IdentityType identity, String email, byte[] profilePhoto, String loginId, String password) {
-        super(name, phoneNumber, birthOfDate, identity, email, profilePhoto);
+    private PlanfitUser(String name, String phoneNumber, LocalDate birthOfDate, IdentityType identity, String email, String profilePhotoHash, String loginId, String password) {
+        super(name, phoneNumber, birthOfDate, identity, email, profilePhotoHash);
         this.loginId = loginId;
         this.password = password;
     }
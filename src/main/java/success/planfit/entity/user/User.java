@@ -10,7 +10,6 @@ import success.planfit.entity.like.PostLike;
 import success.planfit.entity.like.SpaceLike;
 import success.planfit.entity.post.Post;
 import success.planfit.entity.schedule.Schedule;
-import success.planfit.global.jwt.RefreshToken;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -30,10 +29,6 @@ public abstract class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY, cascade = ALL, orphanRemoval = true)
-    @JoinColumn
-    private RefreshToken refreshToken;
-
     @OneToMany(cascade = ALL, orphanRemoval = true, mappedBy = "user")
     private final List<Post> posts = new ArrayList<>();
 
@@ -67,18 +62,20 @@ public abstract class User {
     @Column(nullable = false)
     private String email;
 
+    /**
+     * 사진 저장소(PhotoStorage)에 저장된 프로필 사진의 내용 해시
+     */
     @Setter
-    @Lob
-    private byte[] profilePhoto;
+    @Column(length = 64)
+    private String profilePhotoHash;
 
-    protected User(String name, String phoneNumber, LocalDate birthOfDate, IdentityType identity, String email, byte[] profilePhoto){
+    protected User(String name, String phoneNumber, LocalDate birthOfDate, IdentityType identity, String email, String profilePhotoHash){
         this.name = name;
         this.phoneNumber = phoneNumber;
         this.birthOfDate = birthOfDate;
         this.identity = identity;
         this.email = email;
-        this.profilePhoto = profilePhoto;
-        this.refreshToken = RefreshToken.builder().build(); // 빈 값인 RefreshToken 엔티티 생성
+        this.profilePhotoHash = profilePhotoHash;
     }
 
     /**
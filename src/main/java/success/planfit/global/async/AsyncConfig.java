@@ -0,0 +1,53 @@
+package success.planfit.global.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 처리에 사용하는 Executor 설정
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * AI 장소 추천 요청을 가상 스레드에서 실행하는 Executor
+     * 작업을 제출하는 요청 스레드가 막히지 않도록 동시 실행 수를 제한하지 않음
+     * AI 서버 동시 호출 수는 AiRecommendationClient가 제한함
+     */
+    @Bean
+    public AsyncTaskExecutor aiRecommendationExecutor() {
+        return createVirtualThreadExecutor("ai-recommendation-");
+    }
+
+    /**
+     * 소셜 회원가입 회원의 프로필 사진을 가져오는 Executor
+     * 대기열 크기를 제한해, 제공자 CDN이 느려져도 작업이 끝없이 쌓이지 않고 초과 요청은 TaskRejectedException으로 거절됨
+     */
+    @Bean
+    public ThreadPoolTaskExecutor profilePhotoImportExecutor(
+            @Value("${planfit.photo.profile-import.max-concurrency:2}") int maxConcurrency,
+            @Value("${planfit.photo.profile-import.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("profile-photo-import-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        return executor;
+    }
+
+    public static AsyncTaskExecutor createVirtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+
+        return executor;
+    }
+
+}
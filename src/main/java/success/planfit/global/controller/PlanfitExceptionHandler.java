@@ -5,13 +5,19 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import success.planfit.global.exception.ExternalApiException;
+import success.planfit.global.exception.ServiceOverloadedException;
 
 import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.concurrent.CompletionException;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -20,6 +26,9 @@ import static org.springframework.http.HttpStatus.*;
 public class PlanfitExceptionHandler {
 
     public ResponseEntity<String> handle(Exception e) {
+        if (e instanceof CompletionException && e.getCause() instanceof Exception cause) {
+            return handle(cause);
+        }
         if (e instanceof MethodArgumentNotValidException methodArgumentNotValidException) {
             FieldError fieldError = methodArgumentNotValidException
                     .getBindingResult()
@@ -39,6 +48,18 @@ public class PlanfitExceptionHandler {
         if (e instanceof MalformedJwtException) {
             return ResponseEntity.status(UNAUTHORIZED).body("부적절한 JWT 토큰입니다.");
         }
+        if (e instanceof ExternalApiException externalApiException) {
+            HttpStatus status = externalApiException.isTimeout() ? GATEWAY_TIMEOUT : BAD_GATEWAY;
+            return ResponseEntity.status(status).body(e.getMessage());
+        }
+        if (e instanceof ServiceOverloadedException serviceOverloadedException) {
+            return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(serviceOverloadedException.getRetryAfter().toSeconds()))
+                    .body(e.getMessage());
+        }
+        if (e instanceof AsyncRequestTimeoutException) {
+            return ResponseEntity.status(GATEWAY_TIMEOUT).body("요청 처리 시간이 초과되었습니다.");
+        }
         if (e instanceof HttpMessageNotReadableException) {
             return ResponseEntity.status(BAD_REQUEST).body("JSON 파싱에 실패했습니다.");
         }
@@ -0,0 +1,24 @@
+package success.planfit.global.exception;
+
+/**
+ * 외부 API(AI 서버, OAuth 제공자 등) 호출이 실패하거나 제한 시간을 넘긴 경우 사용
+ */
+public class ExternalApiException extends RuntimeException {
+
+    private final boolean timeout;
+
+    public ExternalApiException(String message, Exception e, boolean timeout) {
+        super(message, e);
+        this.timeout = timeout;
+    }
+
+    public ExternalApiException(String message) {
+        super(message);
+        this.timeout = false;
+    }
+
+    public boolean isTimeout() {
+        return timeout;
+    }
+
+}
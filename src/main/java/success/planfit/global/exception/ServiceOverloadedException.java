@@ -0,0 +1,22 @@
+package success.planfit.global.exception;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 동시 호출 한도 등으로 지금은 요청을 처리할 수 없는 경우 사용
+ * 서버 오류가 아닌 일시적인 과부하이므로 503과 함께 retryAfter 이후 다시 시도하도록 안내함
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+}
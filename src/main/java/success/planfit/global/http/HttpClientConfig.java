@@ -0,0 +1,102 @@
+package success.planfit.global.http;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출에 사용하는 커넥션 풀 기반 RestTemplate 설정
+ * 요청마다 클라이언트를 만들지 않고 keep-alive 커넥션을 재사용하며, 모든 단계에 제한 시간을 둠
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public RestTemplate aiRestTemplate(
+            @Value("${external.ai.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${external.ai.read-timeout:10s}") Duration readTimeout,
+            @Value("${external.ai.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${external.ai.max-connections:50}") int maxConnections,
+            @Value("${external.ai.idle-timeout:30s}") Duration idleTimeout
+    ) {
+        return createPooledRestTemplate(connectTimeout, readTimeout, connectionRequestTimeout, maxConnections, idleTimeout);
+    }
+
+    /**
+     * 구글, 카카오 등 OAuth 제공자가 함께 사용하는 RestTemplate
+     */
+    @Bean
+    public RestTemplate oauthRestTemplate(
+            @Value("${external.oauth.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${external.oauth.read-timeout:5s}") Duration readTimeout,
+            @Value("${external.oauth.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${external.oauth.max-connections:50}") int maxConnections,
+            @Value("${external.oauth.idle-timeout:30s}") Duration idleTimeout
+    ) {
+        return createPooledRestTemplate(connectTimeout, readTimeout, connectionRequestTimeout, maxConnections, idleTimeout);
+    }
+
+    /**
+     * 소셜 회원가입 회원의 프로필 사진을 제공자 CDN에서 내려받는 RestTemplate
+     */
+    @Bean
+    public RestTemplate photoImportRestTemplate(
+            @Value("${planfit.photo.profile-import.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${planfit.photo.profile-import.read-timeout:5s}") Duration readTimeout,
+            @Value("${planfit.photo.profile-import.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${planfit.photo.profile-import.max-concurrency:2}") int maxConnections
+    ) {
+        return createPooledRestTemplate(connectTimeout, readTimeout, connectionRequestTimeout, maxConnections, Duration.ofSeconds(30));
+    }
+
+    /**
+     * 커넥션 풀을 사용하는 RestTemplate을 생성하는 메서드
+     * connectTimeout: TCP 연결 제한 시간, readTimeout: 응답 대기 제한 시간,
+     * connectionRequestTimeout: 풀에서 커넥션을 얻기까지의 제한 시간, idleTimeout: 유휴 커넥션 정리 주기
+     */
+    public static RestTemplate createPooledRestTemplate(
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration connectionRequestTimeout,
+            int maxConnections,
+            Duration idleTimeout
+    ) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setDefaultConnectionConfig(connectionConfig)
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()))
+                .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+}
@@ -6,7 +6,6 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
@@ -22,11 +21,10 @@ public class JwtFilter extends GenericFilterBean {
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain) throws IOException, ServletException {
         String token = tokenProvider.resolveToken((HttpServletRequest) request);
 
-        // 토큰이 적절하다면 SecurityContextHolder 에 사용자의 권한 정보를 추가
-        if (StringUtils.hasText(token) && tokenProvider.validateToken(token, TokenType.ACCESS)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 토큰이 적절하다면 SecurityContextHolder 에 사용자의 권한 정보를 추가 (검증과 권한 정보 생성은 한 번의 파싱으로 처리)
+        if (StringUtils.hasText(token)) {
+            tokenProvider.authenticate(token, TokenType.ACCESS)
+                    .ifPresent(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication));
         }
         filterChain.doFilter(request, response);
     }
@@ -1,30 +1,64 @@
 package success.planfit.global.jwt;
 
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 리프레쉬 토큰
+ * 토큰 원문 대신 SHA-256 해시를 유니크 인덱스로 보관해, 재발급 시 User를 거치지 않고 한 번의 인덱스 조회로 찾음
+ * 같은 로그인에서 회전(rotation)으로 이어진 토큰들은 같은 familyId를 가짐
+ */
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "refresh_token_uq_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "refresh_token_idx_user_id", columnList = "user_id"),
+                @Index(name = "refresh_token_idx_family_id", columnList = "family_id"),
+                @Index(name = "refresh_token_idx_expires_at", columnList = "expires_at")
+        }
+)
 public class RefreshToken {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Setter
-    private String tokenValue;
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 회전으로 이미 사용됐거나 로그아웃으로 폐기된 토큰이면 true
+     */
+    @Column(nullable = false)
+    private boolean revoked;
 
     @Builder
-    private RefreshToken(String tokenValue) {
-        this.tokenValue = tokenValue;
+    private RefreshToken(String tokenHash, Long userId, String familyId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+        this.revoked = false;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
     }
 
 }
@@ -0,0 +1,106 @@
+package success.planfit.global.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.jwt.dto.TokenResponseDto;
+import success.planfit.repository.RefreshTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리프레쉬 토큰의 발급, 회전(rotation), 폐기를 담당하는 서비스
+ * 재발급할 때마다 사용한 토큰을 폐기하고 같은 family의 새 토큰을 발급하며,
+ * 이미 사용된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기함
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenProvider tokenProvider;
+
+    /**
+     * 로그인 시 새 family의 리프레쉬 토큰을 발급하는 메서드
+     */
+    public String issue(long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레쉬 토큰으로 Access 토큰과 새 리프레쉬 토큰을 재발급하는 메서드
+     * User를 조회하지 않고 토큰 해시의 유니크 인덱스 한 번으로 검증함
+     * 재사용 감지로 family를 폐기한 뒤 예외를 던지므로, 폐기 내용은 롤백하지 않음
+     */
+    @Transactional(noRollbackFor = IllegalRequestException.class)
+    public TokenResponseDto reissue(String refreshTokenValue) {
+        if (!tokenProvider.validateToken(refreshTokenValue, TokenType.REFRESH)) {
+            throw new IllegalRequestException("부적절한 리프레쉬 토큰입니다.");
+        }
+
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(TokenProvider.hash(refreshTokenValue))
+                .orElseThrow(() -> new IllegalRequestException("만료된 리프레쉬 토큰입니다."));
+
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new IllegalRequestException("만료된 리프레쉬 토큰입니다.");
+        }
+        if (refreshToken.isRevoked() || refreshTokenRepository.revokeIfActive(refreshToken.getId()) == 0) {
+            revokeFamily(refreshToken);
+            throw new IllegalRequestException("만료된 리프레쉬 토큰입니다.");
+        }
+
+        long userId = refreshToken.getUserId();
+        return TokenResponseDto.builder()
+                .accessToken(tokenProvider.createToken(userId, TokenType.ACCESS))
+                .refreshToken(issue(userId, refreshToken.getFamilyId()))
+                .build();
+    }
+
+    /**
+     * 회원에게 발급된 모든 리프레쉬 토큰을 폐기하는 메서드 (로그아웃)
+     */
+    public void revokeAll(long userId) {
+        refreshTokenRepository.revokeAllByUserId(userId);
+    }
+
+    /**
+     * 회원의 리프레쉬 토큰을 모두 삭제하는 메서드 (회원 탈퇴)
+     */
+    public void deleteAll(long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    /**
+     * 만료된 토큰을 주기적으로 정리하는 메서드
+     */
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 0 4 * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteAllExpired(LocalDateTime.now());
+        log.info("RefreshTokenService.deleteExpired() deleted {} tokens", deleted);
+    }
+
+    private String issue(long userId, String familyId) {
+        String tokenValue = tokenProvider.createToken(userId, TokenType.REFRESH);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenProvider.hash(tokenValue))
+                .userId(userId)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(tokenProvider.getValidity(TokenType.REFRESH)))
+                .build());
+
+        return tokenValue;
+    }
+
+    private void revokeFamily(RefreshToken refreshToken) {
+        log.warn("RefreshTokenService.reissue() detected reuse: userId={}, familyId={}", refreshToken.getUserId(), refreshToken.getFamilyId());
+        refreshTokenRepository.revokeAllByFamilyId(refreshToken.getFamilyId());
+    }
+
+}
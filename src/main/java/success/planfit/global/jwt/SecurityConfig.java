@@ -1,5 +1,6 @@
 package success.planfit.global.jwt;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,8 +32,10 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .logout(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll() // 최초 요청에서 인증된 비동기 응답
                         .requestMatchers("/authorization/**").permitAll()
                         .requestMatchers("/schedule/share/view/**").permitAll() // 시리얼 공유
+                        .requestMatchers("/photo/**").permitAll() // 내용 해시로만 접근 가능한 사진
                         .requestMatchers("/swagger-ui/**").permitAll() // swagger
                         .requestMatchers("/v3/api-docs/**").permitAll() // SpringDoc
                         .anyRequest().authenticated()
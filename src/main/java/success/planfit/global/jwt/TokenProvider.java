@@ -1,5 +1,8 @@
 package success.planfit.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -13,9 +16,17 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import success.planfit.entity.user.User;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class TokenProvider {
@@ -24,44 +35,103 @@ public class TokenProvider {
     private static final String BEARER = "Bearer ";
     private static final String AUTHORIZATION = "Authorization";
 
+    private static final String HASH_ALGORITHM = "SHA-256";
+
     private final long validityTime;
     private final Key key;
 
-    public TokenProvider(@Value("${keys.jwt.secret}") String jwtSecret, @Value("${keys.jwt.access-token-validity-in-milliseconds}") long validityTime) {
+    /**
+     * 서명 키로 한 번만 생성해 재사용하는 파서 (불변 객체이므로 스레드 간 공유 가능)
+     */
+    private final JwtParser parser;
+
+    /**
+     * 최근 검증에 성공한 토큰 -> VerifiedToken 캐시
+     * 같은 클라이언트가 같은 토큰으로 반복 요청하면 서명 검증과 파싱을 생략함
+     * 요청마다 해시를 계산하면 서명 검증과 비슷한 비용이 들므로, 토큰 문자열을 그대로 키로 사용함
+     * 각 항목은 토큰 만료 시각이 지나면 함께 만료됨
+     * 캐시를 끄면 null이며, 매 요청 서명 검증과 파싱을 수행함
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public TokenProvider(
+            @Value("${keys.jwt.secret}") String jwtSecret,
+            @Value("${keys.jwt.access-token-validity-in-milliseconds}") long validityTime,
+            @Value("${cache.verified-token.enabled:true}") boolean cacheEnabled,
+            @Value("${cache.verified-token.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${cache.verified-token.expire-after-write:5m}") Duration cacheExpireAfterWrite
+    ) {
         byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.validityTime = validityTime;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = cacheEnabled ? Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new TokenExpiry(cacheExpireAfterWrite))
+                .build() : null;
     }
 
     public String createToken(User user, TokenType tokenType) {
-        // 토큰의 타입에 맞게 만료 시간을 지정함(리프레쉬 토큰의 지속시간을 24배 길게 설정함)
-        Date accessTokenExpiredTime;
+        return createToken(user.getId(), tokenType);
+    }
+
+    /**
+     * User 엔티티 없이 회원 ID만으로 토큰을 생성하는 메서드
+     * 리프레쉬 토큰에는 무작위 jti를 넣어, 같은 시각에 발급해도 토큰(과 그 해시)이 겹치지 않게 함
+     */
+    public String createToken(long userId, TokenType tokenType) {
+        Date expiredTime = new Date(new Date().getTime() + getValidity(tokenType).toMillis());
+
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(Long.toString(userId))
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
+                .setExpiration(expiredTime);
+        if (tokenType == TokenType.REFRESH) {
+            builder.setId(UUID.randomUUID().toString());
+        }
+
+        return builder
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 토큰의 타입에 맞는 유효 시간을 반환하는 메서드(리프레쉬 토큰의 지속시간을 24배 길게 설정함)
+     */
+    public Duration getValidity(TokenType tokenType) {
         switch (tokenType) {
             case ACCESS -> {
-                accessTokenExpiredTime = new Date(new Date().getTime() + validityTime);
+                return Duration.ofMillis(validityTime);
             }
             case REFRESH -> {
-                accessTokenExpiredTime = new Date(new Date().getTime() + (validityTime * 24));
+                return Duration.ofMillis(validityTime * 24);
             }
             case null, default ->  {
                 throw new IllegalArgumentException("토큰 생성 실패: 부적절한 TokenType 입니다.");
             }
         }
-
-        return Jwts.builder()
-                .setSubject(user.getId().toString())
-                .claim(TOKEN_TYPE_CLAIM, tokenType)
-                .setExpiration(accessTokenExpiredTime)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
     }
 
 
+    /**
+     * 토큰을 한 번만 검증해, 유효하고 타입이 일치하면 Authentication을 반환하는 메서드
+     * JwtFilter에서 요청마다 호출됨
+     */
+    public Optional<Authentication> authenticate(String token, TokenType tokenType) {
+        return verify(token)
+                .filter(verifiedToken -> verifiedToken.hasType(tokenType))
+                .map(this::createAuthentication);
+    }
+
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return createAuthentication(VerifiedToken.from(parseClaims(accessToken), TOKEN_TYPE_CLAIM));
+    }
 
-        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(claims.getSubject(), "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
-        authentication.setDetails(claims);
+    private Authentication createAuthentication(VerifiedToken verifiedToken) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(verifiedToken.subject(), "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        authentication.setDetails(verifiedToken);
 
         return authentication;
     }
@@ -84,15 +154,9 @@ public class TokenProvider {
      * 토큰의 유효성을 검증하는 메서드
      */
     public boolean validateToken(String token, TokenType tokenType) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return hasProperType(token, tokenType);
-        } catch (UnsupportedJwtException | ExpiredJwtException | IllegalArgumentException | MalformedJwtException e) {
-            return false;
-        }
+        return verify(token)
+                .filter(verifiedToken -> verifiedToken.hasType(tokenType))
+                .isPresent();
     }
 
     /**
@@ -100,10 +164,7 @@ public class TokenProvider {
      */
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
+            return parser.parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
@@ -113,12 +174,77 @@ public class TokenProvider {
     }
 
     /**
-     * 토큰의 타입이 파라미터로 넘긴 타입과 일치하는지를 반환하는 메서드
+     * 서명과 만료 시각을 검증하고 VerifiedToken을 반환하는 메서드
+     * 최근 검증한 토큰이면 캐시된 VerifiedToken을 반환하며, 검증에 실패하면 빈 값을 반환함
+     */
+    private Optional<VerifiedToken> verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+        if (verifiedTokens == null) {
+            return parseVerifiedToken(token);
+        }
+
+        VerifiedToken cachedToken = verifiedTokens.getIfPresent(token);
+        if (cachedToken != null && !cachedToken.isExpired()) {
+            return Optional.of(cachedToken);
+        }
+
+        Optional<VerifiedToken> verifiedToken = parseVerifiedToken(token);
+        verifiedToken.ifPresent(value -> verifiedTokens.put(token, value));
+
+        return verifiedToken;
+    }
+
+    private Optional<VerifiedToken> parseVerifiedToken(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token)
+                    .getBody();
+
+            return Optional.of(VerifiedToken.from(claims, TOKEN_TYPE_CLAIM));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 리프레쉬 토큰 저장소에 토큰 원문 대신 보관할 SHA-256 해시를 반환하는 메서드
+     */
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목의 만료 시간을 min(토큰 잔여 유효 시간, 최대 보관 시간)으로 지정함
      */
-    private boolean hasProperType(String token, TokenType tokenType) {
-        Claims claims = parseClaims(token);
-        String tokenTypeClaim = (String) claims.get(TOKEN_TYPE_CLAIM);
+    private record TokenExpiry(Duration maximumDuration) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verifiedToken, long currentTime) {
+            long maximumNanos = maximumDuration.toNanos();
+            Instant expiration = verifiedToken.expiration();
+            if (expiration == null) {
+                return maximumNanos;
+            }
+
+            long remainingNanos = Duration.between(Instant.now(), expiration).toNanos();
+            return Math.max(0L, Math.min(remainingNanos, maximumNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verifiedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
 
-        return tokenType == TokenType.valueOf(tokenTypeClaim);
     }
 }
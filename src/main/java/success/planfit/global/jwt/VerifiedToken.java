@@ -0,0 +1,32 @@
+package success.planfit.global.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 토큰에서 인증에 필요한 값만 꺼낸 불변 객체
+ * 검증 캐시에 보관되고 Authentication의 details로 공유되므로, 변경 가능한 Claims 대신 사용함
+ */
+public record VerifiedToken(String subject, String tokenType, Instant expiration) {
+
+    public static VerifiedToken from(Claims claims, String tokenTypeClaim) {
+        Date expiration = claims.getExpiration();
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get(tokenTypeClaim, String.class),
+                expiration == null ? null : expiration.toInstant()
+        );
+    }
+
+    public boolean isExpired() {
+        return expiration != null && !expiration.isAfter(Instant.now());
+    }
+
+    public boolean hasType(TokenType tokenType) {
+        return tokenType.name().equals(this.tokenType);
+    }
+
+}
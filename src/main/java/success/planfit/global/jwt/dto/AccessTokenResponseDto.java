@@ -1,8 +0,0 @@
-package success.planfit.global.jwt.dto;
-
-import lombok.Builder;
-
-@Builder
-public record AccessTokenResponseDto(String accessToken) {
-
-}
@@ -2,6 +2,10 @@ package success.planfit.global.jwt.dto;
 
 import lombok.Builder;
 
+/**
+ * 로그인/토큰 재발급 응답
+ * 재발급 응답은 기존 응답(accessToken)에 회전된 refreshToken이 추가된 형태이며, 클라이언트는 매번 refreshToken을 교체해 저장해야 함
+ */
 @Builder
 public record TokenResponseDto(String accessToken, String refreshToken) {
 
@@ -0,0 +1,46 @@
+package success.planfit.global.paging;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import success.planfit.global.exception.IllegalRequestException;
+
+/**
+ * 키셋(커서) 페이지네이션에서 공통으로 사용하는 페이지 크기 검증과 커서 검사
+ * 키셋 방식은 항상 커서 다음의 첫 페이지만 읽으므로, Pageable은 size만 지정함
+ */
+public final class KeysetPaging {
+
+    public static final int MAXIMUM_PAGE_SIZE = 100;
+
+    private KeysetPaging() {
+    }
+
+    /**
+     * size개를 조회하는 Pageable을 생성하는 메서드
+     * size가 1 이상 MAXIMUM_PAGE_SIZE 이하가 아니면 예외가 발생함
+     */
+    public static Pageable createPageable(int size) {
+        validatePageSize(size);
+
+        return PageRequest.of(0, size);
+    }
+
+    public static void validatePageSize(int size) {
+        if (size < 1 || size > MAXIMUM_PAGE_SIZE) {
+            throw new IllegalRequestException("페이지 크기는 1 이상 " + MAXIMUM_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 커서가 전달되었는지 확인하는 메서드
+     * 커서의 정렬 키와 ID는 함께 전달되어야 하며, 하나만 전달되면 예외가 발생함
+     */
+    public static boolean hasCursor(Object cursorKey, Long cursorId) {
+        if ((cursorKey == null) != (cursorId == null)) {
+            throw new IllegalRequestException("커서의 정렬 키와 ID는 함께 전달되어야 합니다.");
+        }
+
+        return cursorKey != null;
+    }
+
+}
@@ -0,0 +1,107 @@
+package success.planfit.global.photo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import success.planfit.global.exception.IllegalRequestException;
+
+import java.util.List;
+
+/**
+ * 엔티티 행에 @Lob으로 저장돼 있던 기존 사진을 사진 저장소로 옮기고 해시 컬럼을 채우는 일회성 작업
+ * db/migration/003_photo_hash_columns.sql 실행 후 planfit.photo.migration.enabled=true로 한 번 실행하며,
+ * 옮겨지지 않은 행이 남아 있지 않은 것을 확인한 뒤 004_photo_drop_blob_columns.sql로 기존 컬럼을 삭제함
+ * 해시가 비어 있는 행만 처리하므로 중간에 중단돼도 다시 실행할 수 있음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "planfit.photo.migration.enabled", havingValue = "true")
+public class LegacyPhotoMigration {
+
+    private static final List<LegacyPhotoColumn> LEGACY_PHOTO_COLUMNS = List.of(
+            new LegacyPhotoColumn("space_photo", "`value`", "content_hash"),
+            new LegacyPhotoColumn("post_photo", "photo", "photo_hash"),
+            new LegacyPhotoColumn("`user`", "profile_photo", "profile_photo_hash")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PhotoService photoService;
+    private final PhotoStorage photoStorage;
+    private final int batchSize;
+
+    public LegacyPhotoMigration(
+            JdbcTemplate jdbcTemplate,
+            PhotoService photoService,
+            PhotoStorage photoStorage,
+            @Value("${planfit.photo.migration.batch-size:20}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.photoService = photoService;
+        this.photoStorage = photoStorage;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        for (LegacyPhotoColumn column : LEGACY_PHOTO_COLUMNS) {
+            migrate(column);
+        }
+    }
+
+    /**
+     * 한 테이블의 기존 사진을 id 순서대로 batchSize개씩 읽어 옮기고, 옮긴 행 수를 반환하는 메서드
+     * 사진 크기가 커서 한 번에 읽는 행 수를 작게 유지함
+     */
+    long migrate(LegacyPhotoColumn column) {
+        String selectQuery = "select id, " + column.photoColumn() + " from " + column.table()
+                + " where " + column.hashColumn() + " is null and " + column.photoColumn() + " is not null and id > ?"
+                + " order by id limit ?";
+        String updateQuery = "update " + column.table() + " set " + column.hashColumn() + " = ? where id = ?";
+
+        long migrated = 0;
+        long lastId = 0;
+        while (true) {
+            List<LegacyPhoto> photos = jdbcTemplate.query(
+                    selectQuery,
+                    (resultSet, rowNum) -> new LegacyPhoto(resultSet.getLong(1), resultSet.getBytes(2)),
+                    lastId,
+                    batchSize
+            );
+            if (photos.isEmpty()) {
+                break;
+            }
+
+            for (LegacyPhoto photo : photos) {
+                jdbcTemplate.update(updateQuery, store(photo.value()), photo.id());
+                lastId = photo.id();
+                migrated++;
+            }
+        }
+
+        log.info("LegacyPhotoMigration.migrate() moved {} photos from {}.{}", migrated, column.table(), column.photoColumn());
+        return migrated;
+    }
+
+    /**
+     * 썸네일과 함께 저장하되, 썸네일을 만들 수 없는 기존 사진(이미지가 아니거나 제한을 넘는 사진)도 유실되지 않도록 원본만 저장함
+     */
+    private String store(byte[] photo) {
+        try {
+            return photoService.store(photo);
+        } catch (IllegalRequestException e) {
+            log.warn("LegacyPhotoMigration.store() stored without thumbnails: {}", e.getMessage());
+            return photoStorage.store(photo);
+        }
+    }
+
+    record LegacyPhotoColumn(String table, String photoColumn, String hashColumn) {
+    }
+
+    private record LegacyPhoto(long id, byte[] value) {
+    }
+
+}
@@ -0,0 +1,160 @@
+package success.planfit.global.photo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 로컬 파일 시스템에 사진을 저장하는 PhotoStorage 구현체
+ * {root}/{해시 앞 2자리}/{해시 3~4번째 자리}/{해시} 경로에 저장하며, 임시 파일에 쓴 뒤 이동시켜 쓰다 만 파일이 노출되지 않도록 함
+ * 썸네일은 원본과 같은 디렉터리에 {해시}_{크기} 이름으로 저장함
+ */
+@Slf4j
+public class LocalPhotoStorage implements PhotoStorage {
+
+    private static final int HASH_LENGTH = 64;
+
+    private final Path root;
+
+    public LocalPhotoStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("사진 저장소 디렉터리를 생성할 수 없습니다: " + this.root, e);
+        }
+    }
+
+    @Override
+    public String store(byte[] photo) {
+        String hash = PhotoProvider.hash(photo);
+        Path path = resolve(hash);
+
+        if (!Files.exists(path)) {
+            write(path, photo);
+        }
+
+        return hash;
+    }
+
+    @Override
+    public Optional<byte[]> load(String hash) {
+        return read(resolve(hash));
+    }
+
+    @Override
+    public Optional<Resource> loadAsResource(String hash) {
+        return toResource(resolve(hash));
+    }
+
+    @Override
+    public boolean exists(String hash) {
+        return Files.exists(resolve(hash));
+    }
+
+    @Override
+    public void storeVariant(String hash, PhotoSize size, byte[] thumbnail) {
+        Path path = resolveVariant(hash, size);
+
+        if (!Files.exists(path)) {
+            write(path, thumbnail);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> loadVariant(String hash, PhotoSize size) {
+        return read(resolveVariant(hash, size));
+    }
+
+    @Override
+    public Optional<Resource> loadVariantAsResource(String hash, PhotoSize size) {
+        return toResource(resolveVariant(hash, size));
+    }
+
+    @Override
+    public boolean existsVariant(String hash, PhotoSize size) {
+        return Files.exists(resolveVariant(hash, size));
+    }
+
+    /**
+     * 해시에 해당하는 파일 경로를 반환하는 메서드
+     * 외부에서 전달된 값이 경로 조작에 사용되지 않도록 16진수 해시 형식만 허용함
+     */
+    public Path resolve(String hash) {
+        validateHash(hash);
+
+        return root.resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(hash);
+    }
+
+    public Path resolveVariant(String hash, PhotoSize size) {
+        return resolve(hash).resolveSibling(hash + "_" + size.getMaximumEdge());
+    }
+
+    private void write(Path path, byte[] photo) {
+        try {
+            Files.createDirectories(path.getParent());
+            Path temporaryFile = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            Files.write(temporaryFile, photo);
+            move(temporaryFile, path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("사진 저장에 실패했습니다: " + path.getFileName(), e);
+        }
+    }
+
+    private Optional<byte[]> read(Path path) {
+        try {
+            return Optional.of(Files.readAllBytes(path));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("사진 조회에 실패했습니다: " + path.getFileName(), e);
+        }
+    }
+
+    private Optional<Resource> toResource(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(new FileSystemResource(path));
+    }
+
+    private void move(Path temporaryFile, Path path) throws IOException {
+        try {
+            Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void validateHash(String hash) {
+        if (hash == null || hash.length() != HASH_LENGTH || !isLowerCaseHex(hash)) {
+            throw new IllegalArgumentException("올바르지 않은 사진 해시입니다.");
+        }
+    }
+
+    private boolean isLowerCaseHex(String hash) {
+        for (int i = 0; i < hash.length(); i++) {
+            char character = hash.charAt(i);
+            if (!(character >= '0' && character <= '9') && !(character >= 'a' && character <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,124 @@
+package success.planfit.global.photo;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import success.planfit.global.controller.PlanfitExceptionHandler;
+import success.planfit.global.exception.IllegalRequestException;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/photo")
+@Tag(
+        name = "사진 API",
+        description = "저장된 사진을 바이너리로 조회하는 기능"
+)
+public class PhotoController {
+
+    private static final CacheControl IMMUTABLE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+    private static final CacheControl FALLBACK_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(10))
+            .cachePublic();
+
+    private final PhotoStorage photoStorage;
+    private final PlanfitExceptionHandler exceptionHandler;
+
+    /**
+     * 사진은 내용 해시로 식별되어 절대 바뀌지 않으므로, 해시를 강한 ETag로 사용하고 장기 캐싱을 허용함
+     * Range 헤더가 있으면 요청한 구간만 206 응답으로 전송함
+     * size를 지정하면 업로드 시 생성된 썸네일을 반환하고, 썸네일이 없으면 원본을 원본 ETag와 짧은 캐시 기간으로 반환함
+     * (썸네일은 같은 사진을 다시 업로드할 때 생성될 수 있으므로, 같은 URL이 나중에 썸네일을 반환할 수 있어야 함)
+     */
+    @GetMapping("/{hash}")
+    @Operation(
+            summary = "사진 조회",
+            description = "내용 해시에 해당하는 사진을 바이너리로 반환합니다. size(SMALL, MEDIUM, LARGE)로 썸네일을 요청할 수 있으며, 알 수 없는 size는 400을 반환합니다. ETag/If-None-Match와 Range 요청을 지원합니다."
+    )
+    public ResponseEntity<Resource> getPhoto(
+            @PathVariable String hash,
+            @RequestParam(name = "size", required = false) String sizeName,
+            WebRequest webRequest
+    ) throws IOException {
+        PhotoSize size = findSize(sizeName);
+
+        Optional<Resource> thumbnail = size == null
+                ? Optional.empty()
+                : photoStorage.loadVariantAsResource(hash, size);
+        Resource photo = thumbnail.or(() -> photoStorage.loadAsResource(hash))
+                .orElse(null);
+        if (photo == null) {
+            return ResponseEntity.status(NOT_FOUND).build();
+        }
+
+        String eTag = thumbnail.isPresent() ? createETag(hash, size) : createETag(hash);
+        CacheControl cacheControl = size != null && thumbnail.isEmpty() ? FALLBACK_CACHE_CONTROL : IMMUTABLE_CACHE_CONTROL;
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(detectMediaType(photo))
+                .body(photo);
+    }
+
+    private PhotoSize findSize(String sizeName) {
+        if (sizeName == null) {
+            return null;
+        }
+
+        return PhotoSize.findByName(sizeName)
+                .orElseThrow(() -> new IllegalRequestException("알 수 없는 사진 크기입니다: " + sizeName));
+    }
+
+    private String createETag(String hash) {
+        return "\"" + hash + "\"";
+    }
+
+    private String createETag(String hash, PhotoSize size) {
+        return "\"" + hash + "-" + size.getMaximumEdge() + "\"";
+    }
+
+    /**
+     * 파일 앞부분의 시그니처로 이미지 형식을 판단하는 메서드
+     */
+    private MediaType detectMediaType(Resource photo) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(photo.getInputStream())) {
+            String contentType = URLConnection.guessContentTypeFromStream(inputStream);
+
+            return contentType == null ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(contentType);
+        }
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<String> handleException(Exception exception) {
+        log.info("PhotoController.handleException() called");
+
+        return exceptionHandler.handle(exception);
+    }
+
+}
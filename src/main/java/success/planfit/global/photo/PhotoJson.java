@@ -0,0 +1,25 @@
+package success.planfit.global.photo;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사진 해시(또는 해시 목록)를 담은 응답 DTO 필드에 붙여, 직렬화 시 PhotoRenderer가 만든 사진 값으로 내보내게 하는 애너테이션
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = PhotoJsonSerializer.class)
+public @interface PhotoJson {
+
+    /**
+     * 응답에 담을 썸네일 크기로, 지정하지 않으면 원본 사진을 가리킴
+     */
+    PhotoSize[] size() default {};
+
+}
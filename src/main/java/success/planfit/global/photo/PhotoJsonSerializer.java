@@ -0,0 +1,70 @@
+package success.planfit.global.photo;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * @PhotoJson 필드의 사진 해시를 PhotoRenderer로 변환해 직렬화하는 Serializer
+ * 스프링이 설정한 ObjectMapper(SpringHandlerInstantiator)가 빈으로 생성하므로 PhotoRenderer를 주입받을 수 있음
+ */
+public class PhotoJsonSerializer extends JsonSerializer<Object> implements ContextualSerializer {
+
+    private final PhotoRenderer photoRenderer;
+    private final PhotoSize size;
+
+    public PhotoJsonSerializer(PhotoRenderer photoRenderer) {
+        this(photoRenderer, null);
+    }
+
+    private PhotoJsonSerializer(PhotoRenderer photoRenderer, PhotoSize size) {
+        this.photoRenderer = photoRenderer;
+        this.size = size;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        if (property == null) {
+            return this;
+        }
+
+        PhotoJson photoJson = property.getAnnotation(PhotoJson.class);
+        if (photoJson == null || photoJson.size().length == 0) {
+            return this;
+        }
+
+        return new PhotoJsonSerializer(photoRenderer, photoJson.size()[0]);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value instanceof Collection<?> hashes) {
+            generator.writeStartArray();
+            for (Object hash : hashes) {
+                writePhoto(hash, generator);
+            }
+            generator.writeEndArray();
+            return;
+        }
+
+        writePhoto(value, generator);
+    }
+
+    private void writePhoto(Object hash, JsonGenerator generator) throws IOException {
+        if (hash == null) {
+            generator.writeNull();
+            return;
+        }
+
+        String photo = size == null
+                ? photoRenderer.render(hash.toString())
+                : photoRenderer.render(hash.toString(), size);
+        generator.writeString(photo);
+    }
+
+}
@@ -2,14 +2,17 @@ package success.planfit.global.photo;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.HexFormat;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PhotoProvider {
 
+    private static final String HASH_ALGORITHM = "SHA-256";
+
     /**
      * 이미지에 대한 바이너리 데이터를 Base64 인코딩을 통해 문자열로 변환하는 메서드
      */
@@ -25,23 +28,23 @@ public class PhotoProvider {
     }
 
     /**
-     * 바이너리 데이터에 대한 문자열을 반환하는 메서드
+     * 이미지 바이너리 데이터의 SHA-256 해시를 16진수 문자열로 반환하는 메서드
+     * 같은 내용의 이미지를 중복 저장하지 않기 위해 사용됨
      */
-    public static String getStringFromByte(byte[] byteData) {
-        return new String(byteData);
+    public static String hash(byte[] image) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(image));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 
     /**
-     * 이미지 URL을 통해 바이너리 데이터를 받아오는 메서드
+     * 바이너리 데이터에 대한 문자열을 반환하는 메서드
      */
-    public static byte[] getImageFromUrl(String imageUrl) {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<byte[]> response = restTemplate.getForEntity(imageUrl, byte[].class);
-
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response.getBody();
-        }
-
-        throw new IllegalArgumentException("이미지 URL을 통한 데이터 조회 실패: " + response.getStatusCode());
+    public static String getStringFromByte(byte[] byteData) {
+        return new String(byteData);
     }
+
 }
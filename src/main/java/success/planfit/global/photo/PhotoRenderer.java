@@ -0,0 +1,65 @@
+package success.planfit.global.photo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응답 DTO의 사진 필드 값을 만드는 컴포넌트
+ * DTO에는 사진 해시만 담고, 응답을 직렬화할 때 PhotoJsonSerializer가 이 컴포넌트로 사진 값을 만듦
+ * 사진 조회 URL을 지원하지 않는 기존 클라이언트를 위해 planfit.photo.inline-base64가 켜져 있으면 Base64 사진을 그대로 담음
+ */
+@Component
+public class PhotoRenderer {
+
+    private static final String PHOTO_PATH = "/photo/";
+    private static final String SIZE_PARAMETER = "?size=";
+
+    private final PhotoStorage photoStorage;
+    private final String baseUrl;
+    private final boolean inlineBase64;
+
+    public PhotoRenderer(
+            PhotoStorage photoStorage,
+            @Value("${planfit.photo.base-url:}") String baseUrl,
+            @Value("${planfit.photo.inline-base64:false}") boolean inlineBase64
+    ) {
+        this.photoStorage = photoStorage;
+        this.baseUrl = baseUrl == null ? "" : baseUrl;
+        this.inlineBase64 = inlineBase64;
+    }
+
+    /**
+     * 원본 사진 조회 URL(/photo/{hash})을 반환하는 메서드
+     * URL 모드에서는 해시와 기준 주소만으로 만들어지며, 사진 저장소에 접근하지 않음
+     */
+    public String render(String hash) {
+        if (hash == null) {
+            return null;
+        }
+        if (inlineBase64) {
+            return photoStorage.load(hash)
+                    .map(PhotoProvider::encode)
+                    .orElse(null);
+        }
+
+        return baseUrl + PHOTO_PATH + hash;
+    }
+
+    /**
+     * 목록/미리보기 응답에 담을 썸네일 조회 URL을 반환하는 메서드
+     * Base64 모드에서는 썸네일을, 썸네일이 없으면 원본을 담음
+     */
+    public String render(String hash, PhotoSize size) {
+        if (hash == null) {
+            return null;
+        }
+        if (inlineBase64) {
+            return photoStorage.loadVariant(hash, size)
+                    .map(PhotoProvider::encode)
+                    .orElseGet(() -> render(hash));
+        }
+
+        return baseUrl + PHOTO_PATH + hash + SIZE_PARAMETER + size.name();
+    }
+
+}
@@ -0,0 +1,81 @@
+package success.planfit.global.photo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import success.planfit.global.exception.IllegalRequestException;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 사진을 사진 저장소에 저장하는 서비스
+ * 사진을 저장하는 서비스들이 주입받아 사용하며, 엔티티에는 반환된 내용 해시만 보관함
+ * 파일 크기가 maximumFileSize를 넘거나 가로, 세로가 maximumImageEdge를 넘는 사진은 저장하지 않고 거절함
+ */
+@Service
+public class PhotoService {
+
+    private final PhotoStorage photoStorage;
+    private final DataSize maximumFileSize;
+    private final int maximumImageEdge;
+
+    public PhotoService(
+            PhotoStorage photoStorage,
+            @Value("${planfit.photo.max-file-size:10MB}") DataSize maximumFileSize,
+            @Value("${planfit.photo.max-image-edge:6000}") int maximumImageEdge
+    ) {
+        this.photoStorage = photoStorage;
+        this.maximumFileSize = maximumFileSize;
+        this.maximumImageEdge = maximumImageEdge;
+    }
+
+    /**
+     * 사진을 저장소에 저장하고, 엔티티에 보관할 내용 해시를 반환하는 메서드
+     * 업로드 시점에 PhotoSize별 썸네일을 함께 생성해 원본 옆에 저장하며, 이미 저장된 사진이면 다시 생성하지 않음
+     * 썸네일 생성 과정에서 이미지 형식과 크기를 검사하므로, 이미지로 해석할 수 없거나 거절된 사진은 원본도 저장되지 않음
+     * 사진이 없으면 null을 반환함
+     */
+    public String store(byte[] photo) {
+        if (photo == null) {
+            return null;
+        }
+        validateFileSize(photo.length);
+
+        String hash = PhotoProvider.hash(photo);
+        if (hasAllThumbnails(hash)) {
+            return photoStorage.store(photo);
+        }
+
+        Map<PhotoSize, byte[]> thumbnails = ThumbnailGenerator.generate(photo, maximumImageEdge);
+        photoStorage.store(photo);
+        thumbnails.forEach((size, thumbnail) -> photoStorage.storeVariant(hash, size, thumbnail));
+
+        return hash;
+    }
+
+    /**
+     * Base64 문자열로 받은 사진을 저장하고 내용 해시를 반환하는 메서드
+     * 디코딩하기 전에 문자열 길이로 파일 크기를 먼저 검사함
+     */
+    public String storeEncoded(String encodedPhoto) {
+        if (encodedPhoto == null) {
+            return null;
+        }
+        validateFileSize((long) encodedPhoto.length() / 4 * 3);
+
+        return store(PhotoProvider.decode(encodedPhoto));
+    }
+
+    private boolean hasAllThumbnails(String hash) {
+        return Arrays.stream(PhotoSize.values())
+                .allMatch(size -> photoStorage.existsVariant(hash, size));
+    }
+
+    private void validateFileSize(long fileSize) {
+        if (fileSize > maximumFileSize.toBytes()) {
+            throw new IllegalRequestException("사진 파일은 " + maximumFileSize.toMegabytes() + "MB 이하여야 합니다.");
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package success.planfit.global.photo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 업로드 시 미리 생성해 두는 썸네일 크기(긴 변 기준 픽셀)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PhotoSize {
+
+    SMALL(64),
+    MEDIUM(256),
+    LARGE(1024);
+
+    private final int maximumEdge;
+
+    /**
+     * 이름(대소문자 무시)에 해당하는 크기를 반환하는 메서드
+     * 알 수 없는 이름이면 빈 값을 반환함
+     */
+    public static Optional<PhotoSize> findByName(String name) {
+        return Arrays.stream(values())
+                .filter(size -> size.name().equalsIgnoreCase(name))
+                .findAny();
+    }
+
+}
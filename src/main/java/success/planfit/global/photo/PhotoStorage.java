@@ -0,0 +1,43 @@
+package success.planfit.global.photo;
+
+import org.springframework.core.io.Resource;
+
+import java.util.Optional;
+
+/**
+ * 사진 바이너리 데이터를 내용 해시(SHA-256) 기준으로 저장하는 저장소
+ * 엔티티는 사진 데이터 대신 store()가 반환한 해시만 보관함
+ */
+public interface PhotoStorage {
+
+    /**
+     * 사진을 저장하고 내용 해시를 반환하는 메서드
+     * 같은 내용의 사진은 한 번만 저장됨
+     */
+    String store(byte[] photo);
+
+    /**
+     * 해시에 해당하는 사진을 반환하는 메서드
+     */
+    Optional<byte[]> load(String hash);
+
+    /**
+     * 해시에 해당하는 사진을 스트리밍할 수 있는 Resource로 반환하는 메서드
+     * 사진 전체를 메모리에 올리지 않고 응답으로 전송하기 위해 사용됨
+     */
+    Optional<Resource> loadAsResource(String hash);
+
+    boolean exists(String hash);
+
+    /**
+     * 원본 해시에 딸린 썸네일을 저장하는 메서드
+     */
+    void storeVariant(String hash, PhotoSize size, byte[] thumbnail);
+
+    Optional<byte[]> loadVariant(String hash, PhotoSize size);
+
+    Optional<Resource> loadVariantAsResource(String hash, PhotoSize size);
+
+    boolean existsVariant(String hash, PhotoSize size);
+
+}
@@ -0,0 +1,20 @@
+package success.planfit.global.photo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class PhotoStorageConfig {
+
+    /**
+     * 사진 저장소 빈을 생성하는 메서드로, 사진을 저장하는 서비스(PhotoService)와 사진 조회 API가 주입받아 사용함
+     */
+    @Bean
+    public PhotoStorage photoStorage(@Value("${planfit.photo.storage-root:photo-storage}") Path root) {
+        return new LocalPhotoStorage(root);
+    }
+
+}
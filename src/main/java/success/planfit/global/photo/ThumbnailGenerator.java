@@ -0,0 +1,118 @@
+package success.planfit.global.photo;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import success.planfit.global.exception.IllegalRequestException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 원본 사진으로부터 PhotoSize별 썸네일을 생성하는 유틸리티
+ * 비율을 유지한 채 긴 변을 각 크기에 맞추며, 원본이 더 작으면 원본을 그대로 사용함
+ * 투명도가 있는 이미지는 PNG로, 나머지는 JPEG로 인코딩함
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ThumbnailGenerator {
+
+    private static final String JPEG = "jpg";
+    private static final String PNG = "png";
+    private static final String UNREADABLE_PHOTO_MESSAGE = "이미지로 해석할 수 없는 사진입니다.";
+
+    /**
+     * 썸네일을 생성하는 메서드
+     * 이미지로 해석할 수 없는 데이터(이미지가 아니거나, 지원하지 않는 형식이거나, 잘린 파일)는 거절함
+     * 가로나 세로가 maximumImageEdge를 넘는 이미지는 픽셀을 디코딩하기 전에 거절함
+     */
+    public static Map<PhotoSize, byte[]> generate(byte[] photo, int maximumImageEdge) {
+        BufferedImage original = read(photo, maximumImageEdge);
+
+        Map<PhotoSize, byte[]> thumbnails = new EnumMap<>(PhotoSize.class);
+        for (PhotoSize size : PhotoSize.values()) {
+            thumbnails.put(size, createThumbnail(original, photo, size));
+        }
+
+        return thumbnails;
+    }
+
+    private static byte[] createThumbnail(BufferedImage original, byte[] photo, PhotoSize size) {
+        int longestEdge = Math.max(original.getWidth(), original.getHeight());
+        if (longestEdge <= size.getMaximumEdge()) {
+            return photo;
+        }
+
+        double scale = (double) size.getMaximumEdge() / longestEdge;
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+        boolean hasAlpha = original.getColorModel().hasAlpha();
+
+        BufferedImage thumbnail = new BufferedImage(width, height, hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return write(thumbnail, hasAlpha ? PNG : JPEG);
+    }
+
+    /**
+     * 압축을 풀면 수 GB가 되는 이미지(decompression bomb)로부터 메모리를 보호하기 위해,
+     * ImageIO.read() 대신 헤더의 가로, 세로를 먼저 확인한 뒤 픽셀을 읽음
+     */
+    private static BufferedImage read(byte[] photo, int maximumImageEdge) {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(photo))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) {
+                throw new IllegalRequestException(UNREADABLE_PHOTO_MESSAGE);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                validateImageEdge(reader.getWidth(0), reader.getHeight(0), maximumImageEdge);
+
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("ThumbnailGenerator.read() failed: {}", e.getMessage());
+            throw new IllegalRequestException(UNREADABLE_PHOTO_MESSAGE);
+        }
+    }
+
+    private static void validateImageEdge(int width, int height, int maximumImageEdge) {
+        if (width > maximumImageEdge || height > maximumImageEdge) {
+            throw new IllegalRequestException("사진의 가로, 세로는 " + maximumImageEdge + "px 이하여야 합니다.");
+        }
+    }
+
+    private static byte[] write(BufferedImage image, String format) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ImageIO.write(image, format, outputStream);
+
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("썸네일 인코딩에 실패했습니다.", e);
+        }
+    }
+
+}
@@ -11,6 +11,9 @@ import success.planfit.course.dto.CourseResponseDto;
 import success.planfit.global.controller.ControllerUtil;
 import success.planfit.global.controller.PlanfitExceptionHandler;
 import success.planfit.post.dto.request.PostRequestDto;
+import success.planfit.post.dto.request.PostSortCriteria;
+import success.planfit.post.dto.response.PostFeedDto;
+import success.planfit.post.dto.response.PostFeedPageDto;
 import success.planfit.post.dto.response.PostInfoDto;
 import success.planfit.post.service.PostService;
 
@@ -71,22 +74,35 @@ public class PostController {
             summary = "포스트 최신순 N건 조회",
             description = "가장 최신 포스트를 postNum만큼 조회합니다."
     )
-    public ResponseEntity<List<PostInfoDto>> findRecentPosts(@PathVariable int postNum){
-        List<PostInfoDto> postInfoDtoList = postService.findRecentPosts(postNum);
-        return ResponseEntity.ok(postInfoDtoList);
+    public ResponseEntity<List<PostFeedDto>> findRecentPosts(@PathVariable int postNum){
+        List<PostFeedDto> postFeedDtos = postService.findRecentPosts(postNum);
+        return ResponseEntity.ok(postFeedDtos);
     }
 
     @GetMapping
     @Operation(
-            summary = "포스트 조회(페이지네이션)",
-            description = "정렬된 포스트를 페이지네이션 방식으로 조회합니다. 정렬 기준은 criteria가 결정합니다. 기준을 지정하지 않을 시, 최신순으로 정렬합니다."
+            summary = "포스트 조회(커서 페이지네이션)",
+            description = "정렬된 포스트를 커서 방식으로 조회합니다. 정렬 기준은 sort(LATEST, LIKES)가 결정하며, 지정하지 않을 시 최신순으로 정렬합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다. "
+                    + "LIKES는 조회 시점의 좋아요 수로 정렬하므로, 페이지를 넘기는 사이 좋아요 수가 바뀐 포스트는 다음 페이지에서 빠지거나 중복될 수 있습니다. "
+                    + "순위가 고정된 목록이 필요하면 인기 포스트 조회(/post/popular)를 사용합니다."
     )
-    public ResponseEntity<List<PostInfoDto>> findAllOrderByCreatedAt(
-            @RequestParam(required = false, defaultValue = "0", value = "page") int pageNo,
-            @RequestParam(required = false, defaultValue = "createdAt", value = "criteria") String criteria
+    public ResponseEntity<PostFeedPageDto> findAll(
+            @RequestParam(defaultValue = "LATEST") PostSortCriteria sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
     ){
-        List<PostInfoDto> postInfoDtos = postService.findAll(pageNo, criteria);
-        return ResponseEntity.ok(postInfoDtos);
+        PostFeedPageDto postFeedPage = postService.findAll(sort, cursor, size);
+        return ResponseEntity.ok(postFeedPage);
+    }
+
+    @GetMapping("/popular")
+    @Operation(
+            summary = "인기 포스트 조회",
+            description = "좋아요와 댓글 수를 작성 후 경과 시간으로 감쇠한 점수 기준 상위 포스트를 size개 조회합니다. 랭킹은 주기적으로 갱신됩니다."
+    )
+    public ResponseEntity<List<PostFeedDto>> findPopularPosts(@RequestParam(defaultValue = "10") int size) {
+        List<PostFeedDto> postFeedDtos = postService.findPopularPosts(size);
+        return ResponseEntity.ok(postFeedDtos);
     }
 
     @PatchMapping("/{postId}")
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import success.planfit.global.controller.ControllerUtil;
@@ -12,6 +13,7 @@ import success.planfit.post.dto.response.PostPreviewDto;
 import success.planfit.post.service.PostLikeService;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -43,11 +45,16 @@ public class PostLikeController {
     @GetMapping
     @Operation(
             summary = "포스트 좋아요 조회",
-            description = "좋아요한 포스트의 리스트를 불러옵니다."
+            description = "좋아요한 포스트의 리스트를 최근 좋아요한 순으로 불러옵니다. 다음 페이지는 마지막 항목의 likedAt과 likeId를 cursorLikedAt, cursorId로 전달해 조회합니다."
     )
-    public ResponseEntity<List<PostPreviewDto>> getLikedPosts(Principal principal) {
+    public ResponseEntity<List<PostPreviewDto>> getLikedPosts(
+            Principal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorLikedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         long userId = controllerUtil.findUserIdByPrincipal(principal);
-        return ResponseEntity.ok(postLikeService.getLikedPosts(userId));
+        return ResponseEntity.ok(postLikeService.getLikedPosts(userId, cursorLikedAt, cursorId, size));
     }
 
     @DeleteMapping("/{postId}")
@@ -0,0 +1,20 @@
+package success.planfit.post.dto.request;
+
+/**
+ * 포스트 목록의 정렬 기준
+ * 인덱스가 있는 기준만 허용하기 위해 임의의 필드명 대신 사용됨
+ */
+public enum PostSortCriteria {
+
+    /**
+     * 최신순 (createdAt, id 내림차순)
+     */
+    LATEST,
+
+    /**
+     * 좋아요순 (likeCount, id 내림차순)
+     * 페이지 사이에 좋아요 수가 바뀐 포스트는 누락되거나 중복 조회될 수 있음 (PostFeedCursor 참고)
+     */
+    LIKES
+
+}
@@ -0,0 +1,48 @@
+package success.planfit.post.dto.response;
+
+import lombok.Getter;
+import success.planfit.global.photo.PhotoJson;
+import success.planfit.global.photo.PhotoSize;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포스트 목록 조회용 경량 DTO
+ * 코스/댓글/사진 연관관계를 로딩하지 않고 PostRepository의 단일 쿼리 프로젝션으로 생성됨
+ * 사진 필드는 해시를 담고, 응답 직렬화 시 썸네일 조회 URL로 변환됨
+ */
+@Getter
+public class PostFeedDto {
+
+    private final Long postId;
+    private final String title;
+    private final String username;
+    @PhotoJson(size = PhotoSize.SMALL)
+    private final String userTitlePhoto;
+    @PhotoJson(size = PhotoSize.MEDIUM)
+    private final String titlePhoto;
+    private final long likeCount;
+    private final long commentCount;
+    private final LocalDateTime createdAt;
+
+    public PostFeedDto(
+            Long postId,
+            String title,
+            String username,
+            String userPhotoHash,
+            String titlePhotoHash,
+            long likeCount,
+            long commentCount,
+            LocalDateTime createdAt
+    ) {
+        this.postId = postId;
+        this.title = title;
+        this.username = username;
+        this.userTitlePhoto = userPhotoHash;
+        this.titlePhoto = titlePhotoHash;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+    }
+
+}
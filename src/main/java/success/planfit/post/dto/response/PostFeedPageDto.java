@@ -0,0 +1,13 @@
+package success.planfit.post.dto.response;
+
+import java.util.List;
+
+/**
+ * 커서 기반 포스트 목록 응답
+ * nextCursor가 null이면 마지막 페이지임
+ */
+public record PostFeedPageDto(
+        List<PostFeedDto> posts,
+        String nextCursor
+) {
+}
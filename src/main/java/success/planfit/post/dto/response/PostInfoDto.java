@@ -5,7 +5,9 @@ import success.planfit.comment.dto.CommentInfoDto;
 import success.planfit.course.dto.SpaceResponseDto;
 import success.planfit.entity.comment.Comment;
 import success.planfit.entity.post.Post;
-import success.planfit.global.photo.PhotoProvider;
+import success.planfit.entity.post.PostPhoto;
+import success.planfit.global.photo.PhotoJson;
+import success.planfit.global.photo.PhotoSize;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,12 +15,14 @@ import java.util.List;
 @Builder
 public class PostInfoDto {
     private String username;
+    @PhotoJson(size = PhotoSize.SMALL)
     private String userTitlePhoto;
     private String title;
     private String location;
     private String content;
     private Boolean isPublic;
     private List<SpaceResponseDto> spaces;
+    @PhotoJson
     private List<String> postPhotos;
     private LocalDateTime createdAt;
     private List<CommentInfoDto> comments;
@@ -33,12 +37,12 @@ public class PostInfoDto {
 
         // List<PostPhoto> -> List<String>
         List<String> postPhotos = post.getPostPhotos().stream()
-                .map(postPhoto -> PhotoProvider.encode(postPhoto.getPhoto()))
+                .map(PostPhoto::getPhotoHash)
                 .toList();
 
         PostInfoDto postInfoDto = PostInfoDto.builder()
                 .username(post.getUser().getName())
-                .userTitlePhoto(PhotoProvider.encode(post.getUser().getProfilePhoto()))
+                .userTitlePhoto(post.getUser().getProfilePhotoHash())
                 .title(post.getTitle())
                 .location(post.getCourse().getLocation())
                 .content(post.getContent())
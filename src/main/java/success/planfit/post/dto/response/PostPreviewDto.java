@@ -1,29 +1,50 @@
 package success.planfit.post.dto.response;
 
-import lombok.Builder;
-import success.planfit.entity.post.Post;
-import success.planfit.entity.user.User;
-import success.planfit.global.photo.PhotoProvider;
+import lombok.Getter;
+import success.planfit.global.photo.PhotoJson;
+import success.planfit.global.photo.PhotoSize;
 
 import java.time.LocalDateTime;
 
-@Builder
+/**
+ * 좋아요한 포스트 목록 조회용 DTO
+ * PostLikeRepository의 단일 쿼리 프로젝션으로 생성되며, 다음 페이지 조회를 위해 좋아요 ID와 시각을 함께 담음
+ */
+@Getter
 public class PostPreviewDto {
-    private String username;
-    private String userTitlePhoto;
-    private String title;
-    private String content;
-    private String titlePhoto;
-    private LocalDateTime createdAt;
 
-    public static PostPreviewDto of(Post post, User user) {
-        return PostPreviewDto.builder()
-                .username(user.getName())
-                .userTitlePhoto(PhotoProvider.encode(user.getProfilePhoto()))
-                .title(post.getTitle())
-                .content(post.getContent())
-                .titlePhoto(PhotoProvider.encode(post.getPostPhotos().get(0).getPhoto()))
-                .createdAt(post.getCreatedAt())
-                .build();
+    private final Long likeId;
+    private final LocalDateTime likedAt;
+    private final Long postId;
+    private final String username;
+    @PhotoJson(size = PhotoSize.SMALL)
+    private final String userTitlePhoto;
+    private final String title;
+    private final String content;
+    @PhotoJson(size = PhotoSize.MEDIUM)
+    private final String titlePhoto;
+    private final LocalDateTime createdAt;
+
+    public PostPreviewDto(
+            Long likeId,
+            LocalDateTime likedAt,
+            Long postId,
+            String username,
+            String userPhotoHash,
+            String title,
+            String content,
+            String titlePhotoHash,
+            LocalDateTime createdAt
+    ) {
+        this.likeId = likeId;
+        this.likedAt = likedAt;
+        this.postId = postId;
+        this.username = username;
+        this.userTitlePhoto = userPhotoHash;
+        this.title = title;
+        this.content = content;
+        this.titlePhoto = titlePhotoHash;
+        this.createdAt = createdAt;
     }
+
 }
@@ -0,0 +1,25 @@
+package success.planfit.post.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포스트의 인기도에 영향을 주는 활동(작성, 좋아요, 댓글, 삭제)이 발생했음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 PopularPostRanking이 수신해 랭킹을 갱신함
+ * 포스트를 조회하지 않는 경로에서는 postCreatedAt이 null일 수 있음
+ */
+public record PostActivityEvent(
+        long postId,
+        LocalDateTime postCreatedAt,
+        Type type
+) {
+
+    public enum Type {
+        CREATED,
+        LIKED,
+        UNLIKED,
+        COMMENTED,
+        UNCOMMENTED,
+        DELETED
+    }
+
+}
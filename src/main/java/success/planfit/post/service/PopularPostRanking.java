@@ -0,0 +1,192 @@
+package success.planfit.post.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import success.planfit.post.dto.response.PostFeedDto;
+import success.planfit.post.event.PostActivityEvent;
+import success.planfit.repository.PostRepository;
+import success.planfit.repository.PostRepository.EngagementView;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 포스트 상위 K개를 메모리에 유지하는 랭킹
+ * 점수는 (좋아요 수 + 댓글 가중치 * 댓글 수) / (경과 시간 + 2)^gravity 로, 시간이 지날수록 감소함
+ *
+ * 최근 window 기간에 작성된 포스트의 좋아요/댓글 수만 보관하며
+ * - 좋아요/댓글 이벤트로 카운트를 즉시 갱신하고
+ * - rerank-interval마다 상위 K개를 다시 계산하고(새 활동이 없어도 시간에 따라 순서가 바뀌므로), 카운트나 순위가 바뀐 경우에만 목록 DTO를 한 번의 쿼리로 갱신하고
+ * - reload-interval마다 DB에서 전체 카운트를 다시 읽어 누락/오차를 보정함
+ * 조회 요청은 DB를 거치지 않고 마지막으로 계산된 목록을 그대로 반환함
+ */
+@Slf4j
+@Component
+public class PopularPostRanking {
+
+    private static final double AGE_OFFSET_HOURS = 2.0;
+
+    private final PostRepository postRepository;
+    private final int rankingSize;
+    private final Duration window;
+    private final double gravity;
+    private final double commentWeight;
+
+    private final Map<Long, Engagement> engagements = new ConcurrentHashMap<>();
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private volatile List<PostFeedDto> ranking = List.of();
+
+    public PopularPostRanking(
+            PostRepository postRepository,
+            @Value("${ranking.popular-post.size:100}") int rankingSize,
+            @Value("${ranking.popular-post.window:7d}") Duration window,
+            @Value("${ranking.popular-post.gravity:1.5}") double gravity,
+            @Value("${ranking.popular-post.comment-weight:2.0}") double commentWeight
+    ) {
+        this.postRepository = postRepository;
+        this.rankingSize = rankingSize;
+        this.window = window;
+        this.gravity = gravity;
+        this.commentWeight = commentWeight;
+    }
+
+    /**
+     * 랭킹 상위 size개의 포스트를 반환하는 메서드
+     */
+    public List<PostFeedDto> getRanking(int size) {
+        List<PostFeedDto> current = ranking;
+
+        return current.subList(0, Math.min(size, current.size()));
+    }
+
+    /**
+     * 포스트 활동 이벤트로 카운트를 갱신하는 메서드
+     * 롤백된 좋아요/댓글이 반영되지 않도록 커밋 이후에 처리하며, 트랜잭션 밖에서 발행된 이벤트는 바로 처리함
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(PostActivityEvent event) {
+        if (event.type() == PostActivityEvent.Type.DELETED) {
+            engagements.remove(event.postId());
+            changed.set(true);
+            return;
+        }
+
+        if (event.postCreatedAt() == null) {
+            engagements.computeIfPresent(event.postId(), (postId, engagement) -> engagement.apply(event.type()));
+            changed.set(true);
+            return;
+        }
+
+        if (!isInWindow(event.postCreatedAt(), LocalDateTime.now())) {
+            return;
+        }
+
+        engagements.compute(event.postId(), (postId, engagement) -> {
+            Engagement current = engagement == null ? new Engagement(event.postCreatedAt(), 0L, 0L) : engagement;
+            return current.apply(event.type());
+        });
+        changed.set(true);
+    }
+
+    /**
+     * 최근 window 기간의 포스트 카운트를 DB에서 다시 읽어오는 메서드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${ranking.popular-post.reload-interval:1h}", initialDelayString = "${ranking.popular-post.reload-interval:1h}")
+    public void reload() {
+        LocalDateTime since = LocalDateTime.now().minus(window);
+        Map<Long, Engagement> loaded = postRepository.findEngagementsCreatedAfter(since).stream()
+                .collect(Collectors.toMap(EngagementView::getId, Engagement::from));
+
+        engagements.keySet().retainAll(loaded.keySet());
+        engagements.putAll(loaded);
+        changed.set(true);
+
+        rerank();
+        log.info("PopularPostRanking.reload(): {} candidate posts", loaded.size());
+    }
+
+    /**
+     * 메모리의 카운트로 상위 K개를 다시 계산하는 메서드
+     * 점수는 경과 시간에 따라 감소하므로 변경이 없어도 매번 계산하며,
+     * 카운트가 바뀌었거나 상위 K개의 순서가 달라진 경우에만 해당 포스트의 목록 DTO를 한 번의 쿼리로 조회함
+     */
+    @Scheduled(fixedDelayString = "${ranking.popular-post.rerank-interval:30s}")
+    public void rerank() {
+        boolean countsChanged = changed.getAndSet(false);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> topPostIds = engagements.entrySet().stream()
+                .filter(entry -> isInWindow(entry.getValue().createdAt(), now))
+                .sorted(Comparator.comparingDouble((Map.Entry<Long, Engagement> entry) -> score(entry.getValue(), now))
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+                .limit(rankingSize)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (topPostIds.isEmpty()) {
+            ranking = List.of();
+            return;
+        }
+        if (!countsChanged && topPostIds.equals(rankedPostIds())) {
+            return;
+        }
+
+        Map<Long, PostFeedDto> postFeeds = postRepository.findFeedByIdIn(topPostIds).stream()
+                .collect(Collectors.toMap(PostFeedDto::getPostId, Function.identity()));
+
+        ranking = topPostIds.stream()
+                .map(postFeeds::get)
+                .filter(postFeed -> postFeed != null)
+                .toList();
+    }
+
+    private List<Long> rankedPostIds() {
+        return ranking.stream()
+                .map(PostFeedDto::getPostId)
+                .toList();
+    }
+
+    private double score(Engagement engagement, LocalDateTime now) {
+        double ageHours = Math.max(0L, Duration.between(engagement.createdAt(), now).toMinutes()) / 60.0;
+        double points = engagement.likeCount() + commentWeight * engagement.commentCount();
+
+        return points / Math.pow(ageHours + AGE_OFFSET_HOURS, gravity);
+    }
+
+    private boolean isInWindow(LocalDateTime createdAt, LocalDateTime now) {
+        return createdAt != null && createdAt.isAfter(now.minus(window));
+    }
+
+    private record Engagement(LocalDateTime createdAt, long likeCount, long commentCount) {
+
+        private static Engagement from(EngagementView view) {
+            return new Engagement(view.getCreatedAt(), view.getLikeCount(), view.getCommentCount());
+        }
+
+        private Engagement apply(PostActivityEvent.Type type) {
+            return switch (type) {
+                case LIKED -> new Engagement(createdAt, likeCount + 1, commentCount);
+                case UNLIKED -> new Engagement(createdAt, Math.max(0L, likeCount - 1), commentCount);
+                case COMMENTED -> new Engagement(createdAt, likeCount, commentCount + 1);
+                case UNCOMMENTED -> new Engagement(createdAt, likeCount, Math.max(0L, commentCount - 1));
+                case CREATED, DELETED -> this;
+            };
+        }
+
+    }
+
+}
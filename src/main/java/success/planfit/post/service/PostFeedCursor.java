@@ -0,0 +1,66 @@
+package success.planfit.post.service;
+
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.post.dto.request.PostSortCriteria;
+import success.planfit.post.dto.response.PostFeedDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 포스트 목록의 마지막 항목 위치를 나타내는 커서
+ * 클라이언트에는 정렬 기준, 정렬 키, ID를 묶은 URL-safe Base64 문자열로만 노출됨
+ *
+ * 좋아요순(LIKES) 커서는 변하는 값인 좋아요 수를 정렬 키로 사용하므로, 페이지를 넘기는 사이 좋아요 수가 바뀐 포스트는
+ * 다음 페이지에서 빠지거나(커서보다 앞으로 이동) 다시 나타날 수 있음(커서보다 뒤로 이동)
+ * 한 번 조회한 순서를 유지해야 하는 화면은 주기적으로 고정된 순위를 반환하는 인기 포스트 조회(PopularPostRanking)를 사용해야 함
+ */
+record PostFeedCursor(
+        PostSortCriteria criteria,
+        LocalDateTime createdAt,
+        long likeCount,
+        long postId
+) {
+
+    private static final String DELIMITER = "|";
+    private static final int FIELD_COUNT = 3;
+
+    static PostFeedCursor of(PostSortCriteria criteria, PostFeedDto lastPost) {
+        return new PostFeedCursor(criteria, lastPost.getCreatedAt(), lastPost.getLikeCount(), lastPost.getPostId());
+    }
+
+    String encode() {
+        String sortKey = criteria == PostSortCriteria.LATEST ? createdAt.toString() : String.valueOf(likeCount);
+        String value = criteria.name() + DELIMITER + sortKey + DELIMITER + postId;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석하는 메서드
+     * 형식이 잘못되었거나 요청한 정렬 기준과 다른 기준으로 발급된 커서이면 예외를 던짐
+     */
+    static PostFeedCursor decode(String cursor, PostSortCriteria criteria) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = value.split("\\|");
+
+            if (fields.length != FIELD_COUNT || !criteria.name().equals(fields[0])) {
+                throw new IllegalRequestException("올바르지 않은 커서입니다.");
+            }
+
+            long postId = Long.parseLong(fields[2]);
+            if (criteria == PostSortCriteria.LATEST) {
+                return new PostFeedCursor(criteria, LocalDateTime.parse(fields[1]), 0L, postId);
+            }
+            return new PostFeedCursor(criteria, null, Long.parseLong(fields[1]), postId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalRequestException("올바르지 않은 커서입니다.");
+        }
+    }
+
+}
@@ -2,16 +2,17 @@ package success.planfit.post.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import success.planfit.entity.like.PostLike;
-import success.planfit.entity.post.Post;
-import success.planfit.entity.user.User;
+import success.planfit.global.paging.KeysetPaging;
 import success.planfit.post.dto.response.PostPreviewDto;
+import success.planfit.post.event.PostActivityEvent;
 import success.planfit.repository.PostLikeRepository;
 import success.planfit.repository.PostRepository;
-import success.planfit.repository.UserRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -20,50 +21,58 @@ import java.util.function.Supplier;
 @Transactional
 public class PostLikeService {
 
-    private static final Supplier<EntityNotFoundException> USER_NOT_FOUND_EXCEPTION = () -> new jakarta.persistence.EntityNotFoundException("유저 조회에 실패했습니다.");
     private static final Supplier<EntityNotFoundException> POST_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("해당 ID를 지닌 포스트를 찾을 수 없습니다.");
 
     private final PostLikeRepository postLikeRepository;
-    private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public void likePost(long postId, long userId) {
-        User user = userRepository.findById(userId).
-                orElseThrow(USER_NOT_FOUND_EXCEPTION);
+    /**
+     * 포스트 좋아요를 추가하는 메서드로, 이미 좋아요한 포스트이면 아무것도 변경하지 않음
+     * 좋아요가 실제로 추가된 경우에만 좋아요 수를 증가시킴
+     */
+    public void likePost(long userId, long postId) {
+        if (postLikeRepository.insertIfAbsent(userId, postId) == 0) {
+            validatePostExists(postId);
+            return;
+        }
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(POST_NOT_FOUND_EXCEPTION);
+        postRepository.increaseLikeCount(postId);
+        eventPublisher.publishEvent(new PostActivityEvent(postId, null, PostActivityEvent.Type.LIKED));
+    }
+
+    /**
+     * 좋아요한 포스트를 (좋아요 시각, 좋아요 ID) 내림차순으로 size개 조회하는 메서드
+     * 커서(cursorLikedAt, cursorId)가 주어지면 해당 좋아요 다음부터 조회함
+     */
+    @Transactional(readOnly = true)
+    public List<PostPreviewDto> getLikedPosts(long userId, LocalDateTime cursorLikedAt, Long cursorId, int size) {
+        Pageable pageable = KeysetPaging.createPageable(size);
 
-        postLikeRepository.findByUserIdAndPostId(userId, postId)
-                .ifPresent(like -> {
-                    throw new IllegalArgumentException("이미 좋아요한 포스트입니다.");
-                });
+        if (KeysetPaging.hasCursor(cursorLikedAt, cursorId)) {
+            return postLikeRepository.findLikedPostsAfterCursor(userId, cursorLikedAt, cursorId, pageable);
+        }
 
-        PostLike postLike = PostLike.builder()
-                .post(post)
-                .build();
-        user.addPostLike(postLike);
-        postLikeRepository.save(postLike);
-        post.increaseLikeCount();
+        return postLikeRepository.findLikedPosts(userId, pageable);
     }
 
-    @Transactional(readOnly = true)
-    public List<PostPreviewDto> getLikedPosts(long userId) {
-        User user = userRepository.findById(userId).
-                orElseThrow(USER_NOT_FOUND_EXCEPTION);
+    /**
+     * 포스트 좋아요를 (userId, postId)로 바로 삭제하는 메서드로, 좋아요하지 않은 포스트이면 아무것도 변경하지 않음
+     * 좋아요가 실제로 삭제된 경우에만 좋아요 수를 감소시킴
+     */
+    public void unlikePost(long userId, long postId) {
+        if (postLikeRepository.deleteByUserIdAndPostId(userId, postId) == 0) {
+            return;
+        }
 
-        return user.getPostLikes().stream()
-                .map(postLike -> PostPreviewDto.of(postLike.getPost(), user))
-                .toList();
+        postRepository.decreaseLikeCount(postId);
+        eventPublisher.publishEvent(new PostActivityEvent(postId, null, PostActivityEvent.Type.UNLIKED));
     }
 
-    public void unlikePost(long postId, long userId) {
-        User user = userRepository.findById(userId).
-                orElseThrow(USER_NOT_FOUND_EXCEPTION);
-        PostLike postLike = postLikeRepository.findByPostId(postId)
-                .orElseThrow(POST_NOT_FOUND_EXCEPTION);
-        user.removePostLike(postLike);
-        postLike.getPost().decreaseLikeCount();
+    private void validatePostExists(long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw POST_NOT_FOUND_EXCEPTION.get();
+        }
     }
 
 }
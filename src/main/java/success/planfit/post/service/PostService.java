@@ -2,11 +2,11 @@ package success.planfit.post.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import success.planfit.course.dto.SpaceRequestDto;
 import success.planfit.entity.comment.Comment;
@@ -18,17 +18,24 @@ import success.planfit.entity.post.PostTypeValue;
 import success.planfit.entity.space.Space;
 import success.planfit.entity.space.SpaceDetail;
 import success.planfit.entity.user.User;
-import success.planfit.global.photo.PhotoProvider;
+import success.planfit.global.photo.PhotoService;
 import success.planfit.post.dto.request.PostRequestDto;
+import success.planfit.post.dto.request.PostSortCriteria;
+import success.planfit.post.dto.response.PostFeedDto;
+import success.planfit.post.dto.response.PostFeedPageDto;
 import success.planfit.post.dto.response.PostInfoDto;
+import success.planfit.post.event.PostActivityEvent;
 import success.planfit.course.dto.CourseResponseDto;
 import jakarta.persistence.EntityNotFoundException;
 import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.paging.KeysetPaging;
 import success.planfit.repository.*;
+import success.planfit.space.service.SpaceDetailResolver;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 
@@ -39,13 +46,15 @@ import java.util.function.Supplier;
 public class PostService {
     private static final Supplier<EntityNotFoundException> USER_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("유저 조회에 실패했습니다.");
     private static final Supplier<EntityNotFoundException> POST_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("해당 ID를 지닌 포스트를 찾을 수 없습니다.");
-    private static final int PAGE_SIZE = 10;
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final SpaceDetailRepository spaceDetailRepository;
+    private final SpaceDetailResolver spaceDetailResolver;
     private final CommentLikeRepository commentLikeRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PopularPostRanking popularPostRanking;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PhotoService photoService;
 
     public void registerPost(long userId, PostRequestDto requestDto) {
         User user = userRepository.findById(userId)
@@ -59,6 +68,7 @@ public class PostService {
 
         connectEntities(user, post, course, spaces, postPhotos, postTypes);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostActivityEvent(post.getId(), post.getCreatedAt(), PostActivityEvent.Type.CREATED));
     }
 
     @Transactional(readOnly = true)
@@ -85,23 +95,59 @@ public class PostService {
     }
 
     @Transactional(readOnly = true)
-    public List<PostInfoDto> findRecentPosts(int n) {
-        List<Post> posts = postRepository.findTopNByOrderByCreatedAtDesc(n)
-                .orElseThrow(POST_NOT_FOUND_EXCEPTION);
+    public List<PostFeedDto> findRecentPosts(int n) {
+        if (n <= 0) {
+            throw new IllegalRequestException("조회할 포스트 수는 1 이상이어야 합니다.");
+        }
 
-        List<PostInfoDto> postInfoDtos = posts.stream()
-                .map(PostInfoDto::from)
-                .toList();
+        return postRepository.findRecentFeed(PageRequest.of(0, n));
+    }
 
-        return postInfoDtos;
+    /**
+     * 인기 포스트를 조회하는 메서드
+     * DB를 조회하지 않고 PopularPostRanking이 주기적으로 계산해 둔 목록을 반환함
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PostFeedDto> findPopularPosts(int size) {
+        KeysetPaging.validatePageSize(size);
+
+        return popularPostRanking.getRanking(size);
     }
 
+    /**
+     * 포스트 목록을 키셋(커서) 방식으로 조회하는 메서드
+     * 정렬 기준의 (키, id) 복합 인덱스를 따라 커서 다음 size개를 읽으며, 전체 개수를 세는 쿼리는 실행하지 않음
+     * 다음 페이지가 있는지 확인하기 위해 size + 1개를 조회함
+     */
     @Transactional(readOnly = true)
-    public List<PostInfoDto> findAll(int pageNo, String criteria){
-        Pageable pageable = PageRequest.of(pageNo, PAGE_SIZE,Sort.by(Sort.Direction.DESC,criteria));
-        Page<PostInfoDto> page = postRepository.findAll(pageable)
-                .map(PostInfoDto::from);
-        return page.getContent();
+    public PostFeedPageDto findAll(PostSortCriteria criteria, String cursor, int size) {
+        KeysetPaging.validatePageSize(size);
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<PostFeedDto> posts = findFeed(criteria, cursor, pageable);
+        if (posts.size() <= size) {
+            return new PostFeedPageDto(posts, null);
+        }
+
+        List<PostFeedDto> page = posts.subList(0, size);
+        String nextCursor = PostFeedCursor.of(criteria, page.getLast()).encode();
+
+        return new PostFeedPageDto(List.copyOf(page), nextCursor);
+    }
+
+    private List<PostFeedDto> findFeed(PostSortCriteria criteria, String cursor, Pageable pageable) {
+        if (cursor == null || cursor.isBlank()) {
+            return switch (criteria) {
+                case LATEST -> postRepository.findRecentFeed(pageable);
+                case LIKES -> postRepository.findPopularFeed(pageable);
+            };
+        }
+
+        PostFeedCursor feedCursor = PostFeedCursor.decode(cursor, criteria);
+        return switch (criteria) {
+            case LATEST -> postRepository.findRecentFeedAfterCursor(feedCursor.createdAt(), feedCursor.postId(), pageable);
+            case LIKES -> postRepository.findPopularFeedAfterCursor(feedCursor.likeCount(), feedCursor.postId(), pageable);
+        };
     }
 
     public void updatePost(long userId, long postId, PostRequestDto requestDto) {
@@ -136,6 +182,7 @@ public class PostService {
         postLikeRepository.findByUserIdAndPostId(userId, postId).stream()
                 .forEach(user::removePostLike);
         user.removePost(post);
+        eventPublisher.publishEvent(new PostActivityEvent(post.getId(), post.getCreatedAt(), PostActivityEvent.Type.DELETED));
     }
 
     private static Post createPost(PostRequestDto requestDto) {
@@ -153,12 +200,17 @@ public class PostService {
     }
 
     private List<Space> createSpaces(List<SpaceRequestDto> requestDto){
+        Map<String, SpaceDetail> spaceDetails = spaceDetailResolver.resolveAll(
+                requestDto.stream()
+                        .map(SpaceRequestDto::getGooglePlacesIdentifier)
+                        .toList()
+        );
+
         ArrayList<Space> spaces = new ArrayList<>();
 
         int sequence = 0;
         for (SpaceRequestDto spaceRequestDto : requestDto) {
-            SpaceDetail spaceDetail = spaceDetailRepository.findByGooglePlacesIdentifier(spaceRequestDto.getGooglePlacesIdentifier())
-                    .orElseThrow(POST_NOT_FOUND_EXCEPTION);
+            SpaceDetail spaceDetail = spaceDetails.get(spaceRequestDto.getGooglePlacesIdentifier());
             spaces.add(Space.createSpace(spaceDetail, sequence));
 
             sequence++;
@@ -168,10 +220,10 @@ public class PostService {
 
     private List<PostPhoto> createPostPhoto(List<String> postPhotos){
         return postPhotos.stream()
-                .map(PhotoProvider::decode)
-                .map(postPhoto -> {
+                .map(photoService::storeEncoded)
+                .map(photoHash -> {
                     return PostPhoto.builder()
-                            .photo(postPhoto)
+                            .photoHash(photoHash)
                             .build();
                 })
                 .toList();
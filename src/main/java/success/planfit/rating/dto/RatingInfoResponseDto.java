@@ -5,7 +5,8 @@ import success.planfit.entity.rating.Rating;
 import success.planfit.entity.schedule.Schedule;
 import success.planfit.entity.space.Space;
 import success.planfit.entity.space.SpacePhoto;
-import success.planfit.global.photo.PhotoProvider;
+import success.planfit.global.photo.PhotoJson;
+import success.planfit.global.photo.PhotoSize;
 
 import java.time.LocalDateTime;
 import java.util.Comparator;
@@ -19,6 +20,7 @@ public record RatingInfoResponseDto(
         String scheduleTitle,
         int ratingValue,
         LocalDateTime date,
+        @PhotoJson(size = PhotoSize.MEDIUM)
         String titlePhoto
 ) {
 
@@ -49,10 +51,8 @@ public record RatingInfoResponseDto(
             return null;
         }
 
-        byte[] photoOfFirstSpace = spacePhotos.getFirst()
-                .getValue();
-
-        return PhotoProvider.encode(photoOfFirstSpace);
+        return spacePhotos.getFirst()
+                .getContentHash();
     }
 
 }
@@ -11,6 +11,7 @@ import success.planfit.entity.space.SpaceDetail;
 import success.planfit.entity.user.User;
 import success.planfit.rating.dto.RatingInfoResponseDto;
 import success.planfit.rating.dto.RatingRecordRequestDto;
+import success.planfit.repository.ScheduleRepository;
 import success.planfit.repository.UserRepository;
 import success.planfit.schedule.dto.response.ScheduleResponseDto;
 
@@ -30,11 +31,11 @@ public class RatingService {
     private static final Supplier<EntityNotFoundException> RATING_REQUEST_AVAILABLE_SCHEDULE_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("별점 요청을 보낼 수 있는 코스가 존재하지 않습니다.");
 
     private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
 
     @Transactional
     public void recordRating(long userId, RatingRecordRequestDto requestDto) {
-        User user = getUserWithSchedule(userId);
-        Schedule schedule = getSchedule(user, requestDto.scheduleId());
+        Schedule schedule = findScheduleById(userId, requestDto.scheduleId());
         List<SpaceDetail> spaceDetails = getSpaceDetails(schedule);
 
         for (SpaceDetail spaceDetail : spaceDetails) {
@@ -81,8 +82,7 @@ public class RatingService {
 
     @Transactional
     public void removeRating(long userId, long scheduleId) {
-        User user = getUserWithSchedule(userId);
-        Schedule schedule = findScheduleById(user, scheduleId);
+        Schedule schedule = findScheduleById(userId, scheduleId);
 
         schedule.clearRatings();
     }
@@ -92,13 +92,6 @@ public class RatingService {
                 .orElseThrow(USER_NOT_FOUND_EXCEPTION);
     }
 
-    private Schedule getSchedule(User user, long scheduleId) {
-        return user.getSchedules().stream()
-                .filter(schedule -> schedule.getId().equals(scheduleId))
-                .findAny()
-                .orElseThrow(SCHEDULE_NOT_FOUND_EXCEPTION);
-    }
-
     private List<SpaceDetail> getSpaceDetails(Schedule schedule) {
         return schedule.getCourse()
                 .getSpaces()
@@ -128,10 +121,8 @@ public class RatingService {
         return schedule -> !schedule.getRatingRequested();
     }
 
-    private Schedule findScheduleById(User user, long scheduleId) {
-        return user.getSchedules().stream()
-                .filter(schedule -> schedule.getId().equals(scheduleId))
-                .findAny()
+    private Schedule findScheduleById(long userId, long scheduleId) {
+        return scheduleRepository.findByIdAndUserIdWithCourseAndSpaces(scheduleId, userId)
                 .orElseThrow(SCHEDULE_NOT_FOUND_EXCEPTION);
     }
 
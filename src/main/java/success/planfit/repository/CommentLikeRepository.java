@@ -1,16 +1,35 @@
 package success.planfit.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import success.planfit.entity.like.CommentLike;
-import success.planfit.entity.like.PostLike;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
 
-    Optional<CommentLike> findByUserIdAndCommentId(Long userId, Long commentId);
-
     void deleteAllByCommentId(Long commentId);
     void deleteAllByCommentIdIn(List<Long> commentIds);
+
+    /**
+     * 좋아요가 없을 때만 추가하고, 추가된 행 수를 반환
+     * (user_id, comment_id) 유니크 제약으로 중복 요청은 0을 반환하며, 포스트에 속하지 않은 댓글도 0을 반환함
+     * INSERT IGNORE와 달리 중복 키 외의 오류는 그대로 예외로 발생함
+     */
+    @Modifying
+    @Query(value = "insert into comment_like (user_id, comment_id)" +
+            " select :userId, c.id from comment c where c.id = :commentId and c.post_id = :postId" +
+            " on duplicate key update comment_like.id = comment_like.id", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") long userId, @Param("postId") long postId, @Param("commentId") long commentId);
+
+    /**
+     * 좋아요를 키로 바로 삭제하고, 삭제된 행 수를 반환
+     */
+    @Modifying
+    @Query("delete from CommentLike l where l.user.id = :userId and l.comment.id = :commentId" +
+            " and l.comment.id in (select c.id from Comment c where c.post.id = :postId)")
+    int deleteByUserIdAndCommentId(@Param("userId") long userId, @Param("postId") long postId, @Param("commentId") long commentId);
+
 }
@@ -0,0 +1,25 @@
+package success.planfit.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import success.planfit.entity.comment.Comment;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    boolean existsByIdAndPostId(Long commentId, Long postId);
+
+    /**
+     * 좋아요 수를 DB에서 원자적으로 1 증가시킴
+     * 엔티티를 읽고 수정하는 방식과 달리 동시 요청 간에 갱신이 유실되지 않음
+     */
+    @Modifying
+    @Query("update Comment c set c.likeCount = c.likeCount + 1 where c.id = :commentId")
+    int increaseLikeCount(@Param("commentId") long commentId);
+
+    @Modifying
+    @Query("update Comment c set c.likeCount = c.likeCount - 1 where c.id = :commentId and c.likeCount > 0")
+    int decreaseLikeCount(@Param("commentId") long commentId);
+
+}
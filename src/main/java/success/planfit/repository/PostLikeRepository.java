@@ -1,16 +1,66 @@
 package success.planfit.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import success.planfit.entity.like.PostLike;
+import success.planfit.post.dto.response.PostPreviewDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
+    String LIKED_POST_PROJECTION = "select new success.planfit.post.dto.response.PostPreviewDto(" +
+            " l.id, l.likedAt, p.id, u.name, u.profilePhotoHash, p.title, p.content," +
+            " (select titlePhoto.photoHash from PostPhoto titlePhoto" +
+            "   where titlePhoto.id = (select min(postPhoto.id) from PostPhoto postPhoto where postPhoto.post = p))," +
+            " p.createdAt)" +
+            " from PostLike l join l.post p join p.user u" +
+            " where l.user.id = :userId";
+    String LIKED_ORDER = " order by l.likedAt desc, l.id desc";
+
     Optional<PostLike> findByUserIdAndPostId(Long userId, Long postId);
-    Optional<PostLike> findByPostId(Long postId);
+
+    /**
+     * 유저가 좋아요한 포스트를 좋아요한 시각 역순으로 한 번의 쿼리로 조회
+     */
+    @Query(LIKED_POST_PROJECTION + LIKED_ORDER)
+    List<PostPreviewDto> findLikedPosts(@Param("userId") long userId, Pageable pageable);
+
+    /**
+     * (likedAt, id) 키셋 페이지네이션: 커서 좋아요 다음부터 조회
+     */
+    @Query(LIKED_POST_PROJECTION +
+            " and (l.likedAt < :cursorLikedAt or (l.likedAt = :cursorLikedAt and l.id < :cursorId))" +
+            LIKED_ORDER)
+    List<PostPreviewDto> findLikedPostsAfterCursor(
+            @Param("userId") long userId,
+            @Param("cursorLikedAt") LocalDateTime cursorLikedAt,
+            @Param("cursorId") long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 좋아요가 없을 때만 추가하고, 추가된 행 수를 반환
+     * (user_id, post_id) 유니크 제약으로 중복 요청은 0을 반환하며, 존재하지 않는 포스트도 0을 반환함
+     * INSERT IGNORE와 달리 중복 키 외의 오류(외래 키, 값 잘림 등)는 경고로 바뀌지 않고 그대로 예외로 발생함
+     * 중복 시 0을 반환하려면 useAffectedRows 연결 설정이 필요함
+     */
+    @Modifying
+    @Query(value = "insert into post_like (user_id, post_id, liked_at)" +
+            " select :userId, p.id, now(6) from post p where p.id = :postId" +
+            " on duplicate key update post_like.id = post_like.id", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") long userId, @Param("postId") long postId);
+
+    /**
+     * 좋아요를 키로 바로 삭제하고, 삭제된 행 수를 반환
+     */
+    @Modifying
+    @Query("delete from PostLike l where l.user.id = :userId and l.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") long userId, @Param("postId") long postId);
 
 }
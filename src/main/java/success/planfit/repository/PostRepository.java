@@ -1,21 +1,85 @@
 package success.planfit.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import success.planfit.entity.post.Post;
+import success.planfit.post.dto.response.PostFeedDto;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    Page<Post> findAll(Pageable pageable);
+    String FEED_PROJECTION = "select new success.planfit.post.dto.response.PostFeedDto(" +
+            " p.id, p.title, u.name, u.profilePhotoHash," +
+            " (select titlePhoto.photoHash from PostPhoto titlePhoto" +
+            "   where titlePhoto.id = (select min(postPhoto.id) from PostPhoto postPhoto where postPhoto.post = p))," +
+            " p.likeCount," +
+            " (select count(c) from Comment c where c.post = p)," +
+            " p.createdAt)" +
+            " from Post p join p.user u";
 
-    @Query("select p from Post p order by p.createdAt desc limit :n offset 0")
-    Optional<List<Post>> findTopNByOrderByCreatedAtDesc(@Param("n") int n);
+    String LATEST_ORDER = " order by p.createdAt desc, p.id desc";
+    String LIKES_ORDER = " order by p.likeCount desc, p.id desc";
+
+    /**
+     * 포스트 목록을 연관 엔티티 로딩 없이 한 번의 쿼리로 조회
+     * 반환 타입이 List이므로 count 쿼리는 실행되지 않음
+     */
+    @Query(FEED_PROJECTION + LATEST_ORDER)
+    List<PostFeedDto> findRecentFeed(Pageable pageable);
+
+    /**
+     * (createdAt, id) 키셋 페이지네이션: 커서 포스트 다음부터 조회
+     */
+    @Query(FEED_PROJECTION +
+            " where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :postId)" +
+            LATEST_ORDER)
+    List<PostFeedDto> findRecentFeedAfterCursor(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("postId") long postId,
+            Pageable pageable
+    );
+
+    @Query(FEED_PROJECTION + LIKES_ORDER)
+    List<PostFeedDto> findPopularFeed(Pageable pageable);
+
+    /**
+     * (likeCount, id) 키셋 페이지네이션: 커서 포스트 다음부터 조회
+     */
+    @Query(FEED_PROJECTION +
+            " where p.likeCount < :likeCount or (p.likeCount = :likeCount and p.id < :postId)" +
+            LIKES_ORDER)
+    List<PostFeedDto> findPopularFeedAfterCursor(
+            @Param("likeCount") long likeCount,
+            @Param("postId") long postId,
+            Pageable pageable
+    );
+
+    @Query(FEED_PROJECTION + " where p.id in :postIds")
+    List<PostFeedDto> findFeedByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("select p.id as id, p.createdAt as createdAt, p.likeCount as likeCount," +
+            " (select count(c) from Comment c where c.post = p) as commentCount" +
+            " from Post p where p.createdAt >= :since")
+    List<EngagementView> findEngagementsCreatedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * 좋아요 수를 DB에서 원자적으로 1 증가시킴
+     * 엔티티를 읽고 수정하는 방식과 달리 동시 요청 간에 갱신이 유실되지 않음
+     */
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + 1 where p.id = :postId")
+    int increaseLikeCount(@Param("postId") long postId);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount - 1 where p.id = :postId and p.likeCount > 0")
+    int decreaseLikeCount(@Param("postId") long postId);
 
     @Query("select p from Post p left join fetch p.comments where p.id = :postId")
     Optional<Post> findByIdWithComment(@Param("postId") Long postId);
@@ -27,4 +91,16 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             " where p.id = :postId")
     Optional<Post> findByIdWithUserAndCourseAndComment(@Param("postId") Long postId);
 
+    interface EngagementView {
+
+        Long getId();
+
+        LocalDateTime getCreatedAt();
+
+        long getLikeCount();
+
+        long getCommentCount();
+
+    }
+
 }
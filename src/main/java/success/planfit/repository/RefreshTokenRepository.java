@@ -0,0 +1,46 @@
+package success.planfit.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import success.planfit.global.jwt.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰만 사용 처리하고, 변경된 행 수를 반환
+     * 같은 토큰으로 동시에 재발급을 요청하면 한 요청만 1을 받음
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.id = :id and t.revoked = false")
+    int revokeIfActive(@Param("id") long id);
+
+    /**
+     * 재사용이 감지된 토큰과 같은 회전 흐름에 속한 토큰을 모두 폐기
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+    int revokeAllByFamilyId(@Param("familyId") String familyId);
+
+    /**
+     * 회원의 모든 토큰을 폐기 (로그아웃)
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.userId = :userId and t.revoked = false")
+    int revokeAllByUserId(@Param("userId") long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    int deleteAllByUserId(@Param("userId") long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+
+}
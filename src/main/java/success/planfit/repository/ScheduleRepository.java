@@ -1,18 +1,83 @@
 package success.planfit.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import success.planfit.entity.schedule.Schedule;
+import success.planfit.schedule.dto.response.ScheduleTitleInfoResponseDto;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     Optional<Schedule> findByShareSerial(String shareSerial);
 
+    boolean existsByShareSerial(String shareSerial);
+
     @Query("select s from Schedule s" +
             " join fetch s.course c" +
             " join fetch c.spaces sp" +
             " where s.id = :scheduleId")
     Optional<Schedule> findIdWithCourseAndSpace(Long scheduleId);
+
+    @Query("select s from Schedule s" +
+            " join fetch s.course c" +
+            " left join fetch c.spaces sp" +
+            " left join fetch sp.spaceDetail" +
+            " where s.id = :scheduleId and s.user.id = :userId")
+    Optional<Schedule> findByIdAndUserIdWithCourseAndSpaces(@Param("scheduleId") Long scheduleId, @Param("userId") Long userId);
+
+    @Query("select new success.planfit.schedule.dto.response.ScheduleTitleInfoResponseDto(s.id, s.title, s.date, s.startTime, c.location)" +
+            " from Schedule s" +
+            " join s.course c" +
+            " where s.user.id = :userId and s.date < :referenceDate" +
+            " order by s.date desc, s.id desc")
+    List<ScheduleTitleInfoResponseDto> findPastTitleInfos(
+            @Param("userId") Long userId,
+            @Param("referenceDate") LocalDate referenceDate,
+            Pageable pageable
+    );
+
+    @Query("select new success.planfit.schedule.dto.response.ScheduleTitleInfoResponseDto(s.id, s.title, s.date, s.startTime, c.location)" +
+            " from Schedule s" +
+            " join s.course c" +
+            " where s.user.id = :userId and s.date < :referenceDate" +
+            " and (s.date < :cursorDate or (s.date = :cursorDate and s.id < :cursorId))" +
+            " order by s.date desc, s.id desc")
+    List<ScheduleTitleInfoResponseDto> findPastTitleInfosAfterCursor(
+            @Param("userId") Long userId,
+            @Param("referenceDate") LocalDate referenceDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("select new success.planfit.schedule.dto.response.ScheduleTitleInfoResponseDto(s.id, s.title, s.date, s.startTime, c.location)" +
+            " from Schedule s" +
+            " join s.course c" +
+            " where s.user.id = :userId and s.date > :referenceDate" +
+            " order by s.date asc, s.id asc")
+    List<ScheduleTitleInfoResponseDto> findUpcomingTitleInfos(
+            @Param("userId") Long userId,
+            @Param("referenceDate") LocalDate referenceDate,
+            Pageable pageable
+    );
+
+    @Query("select new success.planfit.schedule.dto.response.ScheduleTitleInfoResponseDto(s.id, s.title, s.date, s.startTime, c.location)" +
+            " from Schedule s" +
+            " join s.course c" +
+            " where s.user.id = :userId and s.date > :referenceDate" +
+            " and (s.date > :cursorDate or (s.date = :cursorDate and s.id > :cursorId))" +
+            " order by s.date asc, s.id asc")
+    List<ScheduleTitleInfoResponseDto> findUpcomingTitleInfosAfterCursor(
+            @Param("userId") Long userId,
+            @Param("referenceDate") LocalDate referenceDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
 }
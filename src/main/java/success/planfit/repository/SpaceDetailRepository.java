@@ -1,10 +1,13 @@
 package success.planfit.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import success.planfit.entity.space.SpaceDetail;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -13,4 +16,30 @@ public interface SpaceDetailRepository extends JpaRepository<SpaceDetail, Long>
     @Query(value = "select p from SpaceDetail p where p.googlePlacesIdentifier = :placeId")
     Optional<SpaceDetail> findByGooglePlacesIdentifier(@Param("placeId") String placeId);
 
+    @Query(value = "select p from SpaceDetail p where p.googlePlacesIdentifier in :placeIds")
+    List<SpaceDetail> findAllByGooglePlacesIdentifierIn(@Param("placeIds") Collection<String> placeIds);
+
+    @Query(value = "select p.id as id, p.googlePlacesIdentifier as googlePlacesIdentifier from SpaceDetail p")
+    List<IdentifierView> findAllIdentifiers();
+
+    /**
+     * 좋아요 수를 DB에서 원자적으로 1 증가시킴
+     * 엔티티를 읽고 수정하는 방식과 달리 동시 요청 간에 갱신이 유실되지 않음
+     */
+    @Modifying
+    @Query("update SpaceDetail p set p.likeCount = p.likeCount + 1 where p.id = :spaceDetailId")
+    int increaseLikeCount(@Param("spaceDetailId") long spaceDetailId);
+
+    @Modifying
+    @Query("update SpaceDetail p set p.likeCount = p.likeCount - 1 where p.id = :spaceDetailId and p.likeCount > 0")
+    int decreaseLikeCount(@Param("spaceDetailId") long spaceDetailId);
+
+    interface IdentifierView {
+
+        Long getId();
+
+        String getGooglePlacesIdentifier();
+
+    }
+
 }
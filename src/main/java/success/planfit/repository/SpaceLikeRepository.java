@@ -1,13 +1,58 @@
 package success.planfit.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import success.planfit.entity.like.SpaceLike;
-import success.planfit.entity.space.SpaceDetail;
-import success.planfit.entity.user.User;
+import success.planfit.space.dto.response.SpaceLikeResponseDto;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface SpaceLikeRepository extends JpaRepository<SpaceLike, Long> {
-    boolean existsByUserAndSpaceDetail(User user, SpaceDetail spaceDetail);
-    Optional<SpaceLike> findByUserAndSpaceDetail(User user, SpaceDetail spaceDetail);
-}
\ No newline at end of file
+
+    String LIKED_SPACE_PROJECTION = "select new success.planfit.space.dto.response.SpaceLikeResponseDto(" +
+            " l.id, l.likedAt, d.googlePlacesIdentifier, d.spaceName, d.location, d.link)" +
+            " from SpaceLike l join l.spaceDetail d" +
+            " where l.user.id = :userId";
+    String LIKED_ORDER = " order by l.likedAt desc, l.id desc";
+
+    /**
+     * 유저가 좋아요한 장소를 좋아요한 시각 역순으로 한 번의 쿼리로 조회
+     */
+    @Query(LIKED_SPACE_PROJECTION + LIKED_ORDER)
+    List<SpaceLikeResponseDto> findLikedSpaces(@Param("userId") long userId, Pageable pageable);
+
+    /**
+     * (likedAt, id) 키셋 페이지네이션: 커서 좋아요 다음부터 조회
+     */
+    @Query(LIKED_SPACE_PROJECTION +
+            " and (l.likedAt < :cursorLikedAt or (l.likedAt = :cursorLikedAt and l.id < :cursorId))" +
+            LIKED_ORDER)
+    List<SpaceLikeResponseDto> findLikedSpacesAfterCursor(
+            @Param("userId") long userId,
+            @Param("cursorLikedAt") LocalDateTime cursorLikedAt,
+            @Param("cursorId") long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 좋아요가 없을 때만 추가하고, 추가된 행 수를 반환
+     * (user_id, space_detail_id) 유니크 제약으로 중복 요청은 0을 반환함
+     * INSERT IGNORE와 달리 중복 키 외의 오류는 그대로 예외로 발생함
+     */
+    @Modifying
+    @Query(value = "insert into space_like (user_id, space_detail_id, liked_at) values (:userId, :spaceDetailId, now(6))" +
+            " on duplicate key update space_like.id = space_like.id", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") long userId, @Param("spaceDetailId") long spaceDetailId);
+
+    /**
+     * 좋아요를 키로 바로 삭제하고, 삭제된 행 수를 반환
+     */
+    @Modifying
+    @Query("delete from SpaceLike l where l.user.id = :userId and l.spaceDetail.id = :spaceDetailId")
+    int deleteByUserIdAndSpaceDetailId(@Param("userId") long userId, @Param("spaceDetailId") long spaceDetailId);
+
+}
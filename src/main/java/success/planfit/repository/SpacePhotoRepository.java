@@ -0,0 +1,24 @@
+package success.planfit.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import success.planfit.entity.space.SpacePhoto;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SpacePhotoRepository extends JpaRepository<SpacePhoto, Long> {
+
+    @Query("select p.spaceDetail.id as spaceDetailId, p.contentHash as contentHash from SpacePhoto p where p.spaceDetail.id in :spaceDetailIds")
+    List<ContentHashView> findContentHashesBySpaceDetailIdIn(@Param("spaceDetailIds") Collection<Long> spaceDetailIds);
+
+    interface ContentHashView {
+
+        Long getSpaceDetailId();
+
+        String getContentHash();
+
+    }
+
+}
@@ -1,8 +1,10 @@
 package success.planfit.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import success.planfit.entity.user.PlanfitUser;
 import success.planfit.entity.user.User;
 
@@ -28,4 +30,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("select u from User u left join fetch u.schedules where u.id = :userId")
     Optional<User> findByIdWithSchedule(@Param("userId") Long userId);
 
+    /**
+     * 프로필 사진이 아직 없는 회원에게만 사진 해시를 지정하고, 변경된 행 수를 반환
+     * 가져오는 사이 회원이 직접 올린 사진은 덮어쓰지 않음
+     * JOINED 상속의 JPQL 일괄 수정은 임시 테이블을 거치므로, 루트 테이블만 바로 수정하는 네이티브 쿼리를 사용함
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update user set profile_photo_hash = :photoHash where id = :userId and profile_photo_hash is null", nativeQuery = true)
+    int updateProfilePhotoHashIfAbsent(@Param("userId") long userId, @Param("photoHash") String photoHash);
+
 }
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import success.planfit.global.controller.ControllerUtil;
@@ -64,13 +65,18 @@ public class ScheduleController {
     @GetMapping("/past")
     @Operation(
             summary = "지난 일정 조회",
-            description = "지난 일정을 모두 조회합니다. 시간 순으로 내림차순 정렬된 컬렉션을 반환합니다."
+            description = "지난 일정을 조회합니다. (날짜, ID) 기준 내림차순으로 정렬된 컬렉션을 반환합니다. 다음 페이지는 마지막 항목의 날짜와 ID를 cursorDate, cursorId로 전달해 조회합니다."
     )
-    public ResponseEntity<List<ScheduleTitleInfoResponseDto>> findPastSchedules(Principal principal) {
+    public ResponseEntity<List<ScheduleTitleInfoResponseDto>> findPastSchedules(
+            Principal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         log.info("ScheduleController.findPastSchedules() called");
 
         long userId = util.findUserIdByPrincipal(principal);
-        List<ScheduleTitleInfoResponseDto> responseDtos = scheduleService.findPastSchedules(userId, LocalDate.now());
+        List<ScheduleTitleInfoResponseDto> responseDtos = scheduleService.findPastSchedules(userId, LocalDate.now(), cursorDate, cursorId, size);
 
         return ResponseEntity.ok(responseDtos);
     }
@@ -78,13 +84,18 @@ public class ScheduleController {
     @GetMapping("/upcoming")
     @Operation(
             summary = "다가올 일정 조회",
-            description = "아직 지나지 않은 일정을 모두 조회합니다. 시간 순으로 오름차순 정렬된 컬렉션을 반환합니다."
+            description = "아직 지나지 않은 일정을 조회합니다. (날짜, ID) 기준 오름차순으로 정렬된 컬렉션을 반환합니다. 다음 페이지는 마지막 항목의 날짜와 ID를 cursorDate, cursorId로 전달해 조회합니다."
     )
-    public ResponseEntity<List<ScheduleTitleInfoResponseDto>> findUpcomingSchedules(Principal principal) {
+    public ResponseEntity<List<ScheduleTitleInfoResponseDto>> findUpcomingSchedules(
+            Principal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         log.info("ScheduleController.findUpcomingSchedules() called");
 
         long userId = util.findUserIdByPrincipal(principal);
-        List<ScheduleTitleInfoResponseDto> responseDtos = scheduleService.findUpcomingSchedules(userId, LocalDate.now());
+        List<ScheduleTitleInfoResponseDto> responseDtos = scheduleService.findUpcomingSchedules(userId, LocalDate.now(), cursorDate, cursorId, size);
 
         return ResponseEntity.ok(responseDtos);
     }
@@ -1,6 +1,5 @@
 package success.planfit.schedule.dto.response;
 
-import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,9 +11,10 @@ import java.time.LocalTime;
 
 @Getter
 @Builder
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
 public class ScheduleTitleInfoResponseDto {
 
+    private final Long scheduleId;
     private final String title;
     private final LocalDate date;
     private final LocalTime startTime;
@@ -24,6 +24,7 @@ public class ScheduleTitleInfoResponseDto {
         Course course = schedule.getCourse();
 
         return ScheduleTitleInfoResponseDto.builder()
+                .scheduleId(schedule.getId())
                 .title(schedule.getTitle())
                 .date(schedule.getDate())
                 .startTime(schedule.getStartTime())
@@ -2,6 +2,8 @@ package success.planfit.schedule.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import success.planfit.course.dto.CourseRequestDto;
@@ -12,8 +14,8 @@ import success.planfit.entity.space.Space;
 import success.planfit.entity.space.SpaceDetail;
 import success.planfit.entity.user.User;
 import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.paging.KeysetPaging;
 import success.planfit.repository.ScheduleRepository;
-import success.planfit.repository.SpaceDetailRepository;
 import success.planfit.repository.UserRepository;
 import success.planfit.schedule.dto.ShareSerialDto;
 import success.planfit.schedule.dto.request.ScheduleCurrentSequenceUpdateRequestDto;
@@ -21,25 +23,30 @@ import success.planfit.schedule.dto.request.ScheduleRequestDto;
 import success.planfit.schedule.dto.response.ScheduleResponseDto;
 import success.planfit.schedule.dto.response.ScheduleTitleInfoResponseDto;
 import success.planfit.schedule.util.ShareSerialGenerator;
+import success.planfit.space.service.SpaceDetailResolver;
 
 import java.time.LocalDate;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class ScheduleService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private static final Supplier<EntityNotFoundException> USER_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("유저 조회에 실패했습니다.");
-    private static final Supplier<EntityNotFoundException> SPACE_DETAIL_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("SpaceDetail이 존재하지 않습니다.");
     private static final Supplier<EntityNotFoundException> SCHEDULE_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("해당 ID를 지닌 일정을 찾을 수 없습니다.");
     private static final Supplier<EntityNotFoundException> SHARE_SERIAL_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("해당 Share serial을 지닌 일정을 찾을 수 없습니다.");
 
     private final UserRepository userRepository;
-    private final SpaceDetailRepository spaceDetailRepository;
+    private final SpaceDetailResolver spaceDetailResolver;
     private final ShareSerialGenerator shareSerialGenerator;
     private final ScheduleRepository scheduleRepository;
+    private final SharedScheduleCache sharedScheduleCache;
 
     @Transactional
     public void registerSchedule(long userId, ScheduleRequestDto requestDto) {
@@ -54,51 +61,69 @@ public class ScheduleService {
 
     @Transactional
     public void deleteSchedule(long userId, long scheduleId) {
-        User user = findUserWithSchedules(userId);
-        Schedule schedule = findScheduleById(user, scheduleId);
+        Schedule schedule = findScheduleById(userId, scheduleId);
 
-        user.removeSchedule(schedule);
+        sharedScheduleCache.evict(schedule.getShareSerial());
+        detachFromUser(schedule);
+        scheduleRepository.delete(schedule);
     }
 
     @Transactional(readOnly = true)
     public List<ScheduleTitleInfoResponseDto> findPastSchedules(long userId, LocalDate referenceDate) {
-        User user = findUserWithSchedules(userId);
+        return findPastSchedules(userId, referenceDate, null, null, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * 기준일 이전의 일정을 (date, id) 내림차순으로 size개 조회하는 메서드
+     * 커서(cursorDate, cursorId)가 주어지면 해당 일정 다음부터 조회함
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleTitleInfoResponseDto> findPastSchedules(long userId, LocalDate referenceDate, LocalDate cursorDate, Long cursorId, int size) {
+        validateUserExists(userId);
+        Pageable pageable = KeysetPaging.createPageable(size);
 
-        List<Schedule> pastSchedules = getPastSchedules(user, referenceDate);
+        if (KeysetPaging.hasCursor(cursorDate, cursorId)) {
+            return scheduleRepository.findPastTitleInfosAfterCursor(userId, referenceDate, cursorDate, cursorId, pageable);
+        }
 
-        return pastSchedules.stream()
-                .sorted(Comparator.reverseOrder())
-                .map(ScheduleTitleInfoResponseDto::from)
-                .toList();
+        return scheduleRepository.findPastTitleInfos(userId, referenceDate, pageable);
     }
 
     @Transactional(readOnly = true)
     public List<ScheduleTitleInfoResponseDto> findUpcomingSchedules(long userId, LocalDate referenceDate) {
-        User user = findUserWithSchedules(userId);
+        return findUpcomingSchedules(userId, referenceDate, null, null, DEFAULT_PAGE_SIZE);
+    }
 
-        List<Schedule> upcomingSchedules = getUpcomingSchedules(user, referenceDate);
+    /**
+     * 기준일 이후의 일정을 (date, id) 오름차순으로 size개 조회하는 메서드
+     * 커서(cursorDate, cursorId)가 주어지면 해당 일정 다음부터 조회함
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleTitleInfoResponseDto> findUpcomingSchedules(long userId, LocalDate referenceDate, LocalDate cursorDate, Long cursorId, int size) {
+        validateUserExists(userId);
+        Pageable pageable = KeysetPaging.createPageable(size);
+
+        if (KeysetPaging.hasCursor(cursorDate, cursorId)) {
+            return scheduleRepository.findUpcomingTitleInfosAfterCursor(userId, referenceDate, cursorDate, cursorId, pageable);
+        }
 
-        return upcomingSchedules.stream()
-                .sorted()
-                .map(ScheduleTitleInfoResponseDto::from)
-                .toList();
+        return scheduleRepository.findUpcomingTitleInfos(userId, referenceDate, pageable);
     }
 
     @Transactional(readOnly = true)
     public ScheduleResponseDto findScheduleDetail(long userId, long scheduleId) {
-        User user = findUserWithSchedules(userId);
-        Schedule schedule = findScheduleById(user, scheduleId);
+        Schedule schedule = findScheduleById(userId, scheduleId);
 
         return ScheduleResponseDto.from(schedule);
     }
 
     @Transactional
     public void update(long userId, long scheduleId, ScheduleRequestDto requestDto) {
-        User user = findUserWithSchedules(userId);
-        Schedule schedule = findScheduleById(user, scheduleId);
+        Schedule schedule = findScheduleById(userId, scheduleId);
         Course course = schedule.getCourse();
         List<Space> spaces = createSpaces(requestDto.getCourse());
 
+        sharedScheduleCache.evict(schedule.getShareSerial());
         updateSchedule(schedule, requestDto);
         updateCourse(course, requestDto.getCourse());
         replaceSpaces(course, spaces);
@@ -106,8 +131,7 @@ public class ScheduleService {
 
     @Transactional
     public void updateCurrentSequence(long userId, ScheduleCurrentSequenceUpdateRequestDto requestDto) {
-        User user = findUserWithSchedules(userId);
-        Schedule schedule = findScheduleById(user, requestDto.getScheduleId());
+        Schedule schedule = findScheduleById(userId, requestDto.getScheduleId());
 
         validateCurrentSequence(schedule, requestDto.getSequence());
 
@@ -116,12 +140,11 @@ public class ScheduleService {
 
     @Transactional
     public ShareSerialDto createShareSerial(long userId, long scheduleId) {
-        User user = findUserWithSchedules(userId);
-        Schedule schedule = findScheduleById(user, scheduleId);
+        Schedule schedule = findScheduleById(userId, scheduleId);
 
-        Set<String> existsShareSerials = getExistsShareSerials();
-        String shareSerial = shareSerialGenerator.generateUniqueSerial(existsShareSerials);
+        String shareSerial = shareSerialGenerator.generateUniqueSerial(scheduleRepository::existsByShareSerial);
 
+        sharedScheduleCache.evict(schedule.getShareSerial());
         schedule.setShareSerial(shareSerial);
 
         return ShareSerialDto.builder()
@@ -131,6 +154,10 @@ public class ScheduleService {
 
     @Transactional(readOnly = true)
     public ScheduleResponseDto findByShareSerial(String shareSerial) {
+        return sharedScheduleCache.get(shareSerial, this::createSharedScheduleResponseDto);
+    }
+
+    private ScheduleResponseDto createSharedScheduleResponseDto(String shareSerial) {
         Schedule schedule = scheduleRepository.findByShareSerial(shareSerial)
                 .orElseThrow(SHARE_SERIAL_NOT_FOUND_EXCEPTION);
 
@@ -149,12 +176,18 @@ public class ScheduleService {
     }
 
     private List<Space> createSpaces(CourseRequestDto requestDto) {
+        List<SpaceRequestDto> spaceRequestDtos = requestDto.getSpaces();
+        Map<String, SpaceDetail> spaceDetails = spaceDetailResolver.resolveAll(
+                spaceRequestDtos.stream()
+                        .map(SpaceRequestDto::getGooglePlacesIdentifier)
+                        .toList()
+        );
+
         ArrayList<Space> spaces = new ArrayList<>();
 
         int sequence = 0;
-        for (SpaceRequestDto spaceRequestDto : requestDto.getSpaces()) {
-            SpaceDetail spaceDetail = spaceDetailRepository.findByGooglePlacesIdentifier(spaceRequestDto.getGooglePlacesIdentifier())
-                    .orElseThrow(SPACE_DETAIL_NOT_FOUND_EXCEPTION);
+        for (SpaceRequestDto spaceRequestDto : spaceRequestDtos) {
+            SpaceDetail spaceDetail = spaceDetails.get(spaceRequestDto.getGooglePlacesIdentifier());
             spaces.add(createSpace(spaceDetail, sequence));
 
             sequence++;
@@ -185,23 +218,27 @@ public class ScheduleService {
         course.addSpaces(spaces);
     }
 
-    private Schedule findScheduleById(User user, long scheduleId) {
-        return user.getSchedules().stream()
-                .filter(schedule -> schedule.getId().equals(scheduleId))
-                .findAny()
+    private Schedule findScheduleById(long userId, long scheduleId) {
+        return scheduleRepository.findByIdAndUserIdWithCourseAndSpaces(scheduleId, userId)
                 .orElseThrow(SCHEDULE_NOT_FOUND_EXCEPTION);
     }
 
-    private List<Schedule> getPastSchedules(User user, LocalDate criteriaDate) {
-        return user.getSchedules().stream()
-                .filter(schedule -> schedule.getDate().isBefore(criteriaDate))
-                .toList();
+    /**
+     * 회원의 일정 컬렉션이 이미 로딩된 경우에만 컬렉션에서 제거하는 메서드
+     * 로딩되지 않은 컬렉션을 제거만을 위해 불러오지 않기 위함
+     */
+    private void detachFromUser(Schedule schedule) {
+        User user = schedule.getUser();
+
+        if (Hibernate.isInitialized(user) && Hibernate.isInitialized(user.getSchedules())) {
+            user.removeSchedule(schedule);
+        }
     }
 
-    private List<Schedule> getUpcomingSchedules(User user, LocalDate criteriaDate) {
-        return user.getSchedules().stream()
-                .filter(schedule -> schedule.getDate().isAfter(criteriaDate))
-                .toList();
+    private void validateUserExists(long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw USER_NOT_FOUND_EXCEPTION.get();
+        }
     }
 
     private void updateSchedule(Schedule schedule, ScheduleRequestDto requestDto) {
@@ -231,11 +268,4 @@ public class ScheduleService {
         }
     }
 
-    private Set<String> getExistsShareSerials() {
-        return scheduleRepository.findAll().stream()
-                .map(Schedule::getShareSerial)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toUnmodifiableSet());
-    }
-
 }
@@ -0,0 +1,78 @@
+package success.planfit.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import success.planfit.schedule.dto.response.ScheduleResponseDto;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 공유 시리얼로 조회되는 일정 응답을 보관하는 캐시
+ * 크기와 TTL이 제한되며, hit/miss/eviction 지표는 cache.* 메트릭(name=sharedSchedule)으로 노출됨
+ */
+@Component
+public class SharedScheduleCache {
+
+    private static final String CACHE_NAME = "sharedSchedule";
+
+    private final Cache<String, ScheduleResponseDto> cache;
+
+    public SharedScheduleCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.shared-schedule.maximum-size:1000}") long maximumSize,
+            @Value("${cache.shared-schedule.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader를 통해 생성한 값을 저장한 뒤 반환하는 메서드
+     */
+    public ScheduleResponseDto get(String shareSerial, Function<String, ScheduleResponseDto> loader) {
+        return cache.get(shareSerial, loader);
+    }
+
+    /**
+     * 해당 시리얼의 캐시를 즉시 제거하고, 트랜잭션이 커밋된 뒤 한 번 더 제거하는 메서드
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐싱하는 경우를 막기 위함
+     */
+    public void evict(String shareSerial) {
+        if (shareSerial == null) {
+            return;
+        }
+
+        cache.invalidate(shareSerial);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(shareSerial);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+}
@@ -4,26 +4,33 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.stereotype.Component;
 
 import java.util.Random;
-import java.util.Set;
+import java.util.function.Predicate;
 
 @Component
 public class ShareSerialGenerator {
 
     private static final int MINIMUM_SERIAL_LENGTH = 50;
     private static final int MAXIMUM_SERIAL_LENGTH = 100;
+    private static final int MAXIMUM_ATTEMPTS = 5;
     private static final boolean USE_LETTERS = true;
     private static final boolean USE_NUMBERS = true;
 
     private static final Random random = new Random();
 
-    public String generateUniqueSerial(Set<String> existsSerials) {
-        String randomSerial = generateRandomSerial();
-
-        while (existsSerials.contains(randomSerial)) {
-            randomSerial = generateRandomSerial();
+    /**
+     * 중복되지 않는 공유 시리얼을 생성하는 메서드
+     * 62^50 이상의 공간에서 무작위로 뽑기 때문에 충돌은 사실상 발생하지 않으며, 전달받은 조건으로 존재 여부만 확인함
+     */
+    public String generateUniqueSerial(Predicate<String> isDuplicated) {
+        for (int attempt = 0; attempt < MAXIMUM_ATTEMPTS; attempt++) {
+            String randomSerial = generateRandomSerial();
+
+            if (!isDuplicated.test(randomSerial)) {
+                return randomSerial;
+            }
         }
 
-        return randomSerial;
+        throw new IllegalStateException("공유 시리얼 생성에 실패했습니다. 잠시 후 다시 시도해 주세요.");
     }
 
     private String generateRandomSerial() {
@@ -2,8 +2,9 @@ package success.planfit.space.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import success.planfit.course.dto.SpaceDetailInfoDto;
@@ -15,10 +16,10 @@ import success.planfit.space.service.SpaceService;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
-@RequiredArgsConstructor
 @RequestMapping("/space")
 @Tag(
         name = "장소 API"
@@ -28,18 +29,32 @@ public class SpaceController {
     private final ControllerUtil controllerUtil;
     private final PlanfitExceptionHandler exceptionHandler;
     private final SpaceService spaceService;
+    private final AsyncTaskExecutor aiRecommendationExecutor;
+
+    public SpaceController(
+            ControllerUtil controllerUtil,
+            PlanfitExceptionHandler exceptionHandler,
+            SpaceService spaceService,
+            @Qualifier("aiRecommendationExecutor") AsyncTaskExecutor aiRecommendationExecutor
+    ) {
+        this.controllerUtil = controllerUtil;
+        this.exceptionHandler = exceptionHandler;
+        this.spaceService = spaceService;
+        this.aiRecommendationExecutor = aiRecommendationExecutor;
+    }
 
     /**
      * AI에게 장소 조회 요청 갱신, 정렬 후,
      * 프론트 장소 리스트에게 전달
+     * AI 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 가상 스레드에서 비동기로 처리함
      */
     @Operation(
             summary = "AI에게 장소 조회 요청"
     )
     @GetMapping("/getSpaceDetails")
-    public ResponseEntity<List<SpaceDetailInfoDto>> getSpaceDetails(@RequestBody SpaceDetailRequestDto requestDto) {
-        List<SpaceDetailInfoDto> spaceDetailInfoDtos = spaceService.getSpaceDetails(requestDto);
-        return ResponseEntity.ok(spaceDetailInfoDtos);
+    public CompletableFuture<ResponseEntity<List<SpaceDetailInfoDto>>> getSpaceDetails(@RequestBody SpaceDetailRequestDto requestDto) {
+        return CompletableFuture.supplyAsync(() -> spaceService.getSpaceDetails(requestDto), aiRecommendationExecutor)
+                .thenApply(ResponseEntity::ok);
     }
     /**
      * 사용자가 직접 장소들 고르기
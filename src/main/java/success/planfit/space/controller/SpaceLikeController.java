@@ -3,12 +3,14 @@ package success.planfit.space.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import success.planfit.space.dto.request.SpaceLikeRequestDto;
 import success.planfit.space.dto.response.SpaceLikeResponseDto;
 import success.planfit.space.service.SpaceLikeService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -40,10 +42,15 @@ public class SpaceLikeController {
     @GetMapping("/liked/{userId}")
     @Operation(
             summary = "장소 좋아요 조회",
-            description = "좋아요한 장소들의 리스트를 불러옵니다."
+            description = "좋아요한 장소들의 리스트를 최근 좋아요한 순으로 불러옵니다. 다음 페이지는 마지막 항목의 likedAt과 likeId를 cursorLikedAt, cursorId로 전달해 조회합니다."
     )
-    public ResponseEntity<List<SpaceLikeResponseDto>> getLikedSpaces(@PathVariable Long userId) {
-        List<SpaceLikeResponseDto> likedSpaces = spaceLikeService.getLikedSpaces(userId);
+    public ResponseEntity<List<SpaceLikeResponseDto>> getLikedSpaces(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorLikedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<SpaceLikeResponseDto> likedSpaces = spaceLikeService.getLikedSpaces(userId, cursorLikedAt, cursorId, size);
         return ResponseEntity.ok(likedSpaces);
     }
 
@@ -1,20 +1,22 @@
 package success.planfit.space.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import success.planfit.entity.space.SpaceDetail;
 
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요한 장소 목록 조회용 DTO
+ * SpaceLikeRepository의 단일 쿼리 프로젝션으로 생성되며, 다음 페이지 조회를 위해 좋아요 ID와 시각을 함께 담음
+ */
 @Getter
+@AllArgsConstructor
 public class SpaceLikeResponseDto {
+    private final Long likeId;
+    private final LocalDateTime likedAt;
     private final String googlePlacesIdentifier;
     private final String spaceName;
     private final String location;
     private final String link;
 
-    public SpaceLikeResponseDto(SpaceDetail spaceDetail) {
-        this.googlePlacesIdentifier = spaceDetail.getGooglePlacesIdentifier();
-        this.spaceName = spaceDetail.getSpaceName();
-        this.location = spaceDetail.getLocation();
-        this.link = spaceDetail.getLink();
-    }
-
 }
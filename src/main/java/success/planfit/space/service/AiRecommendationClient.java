@@ -0,0 +1,114 @@
+package success.planfit.space.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import success.planfit.course.dto.SpaceDetailInfoDto;
+import success.planfit.global.exception.ExternalApiException;
+import success.planfit.global.exception.ServiceOverloadedException;
+import success.planfit.space.dto.request.SpaceDetailRequestDto;
+import success.planfit.space.dto.request.SpaceInfoForAIDto;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 장소 추천 서버 호출 클라이언트
+ * 동시 호출 수를 커넥션 풀 크기로 제한하며, 여유가 없으면 acquire-timeout까지 기다린 뒤 503(Retry-After)으로 실패함(REJECTED)
+ * 호출은 가상 스레드에서 실행되므로 기다리는 동안 플랫폼 스레드를 점유하지 않음
+ * 호출 지연 시간과 결과는 external.ai.request 타이머(outcome 태그)로 기록됨
+ */
+@Slf4j
+@Component
+public class AiRecommendationClient {
+
+    private static final String METRIC_NAME = "external.ai.request";
+    private static final ParameterizedTypeReference<List<SpaceDetailInfoDto>> RESPONSE_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String url;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final Duration retryAfter;
+
+    public AiRecommendationClient(
+            @Qualifier("aiRestTemplate") RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${external.ai.base-url}") String url,
+            @Value("${external.ai.max-connections:50}") int maxConcurrency,
+            @Value("${external.ai.acquire-timeout:3s}") Duration acquireTimeout,
+            @Value("${external.ai.retry-after:5s}") Duration retryAfter
+    ) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.url = url;
+        this.permits = new Semaphore(maxConcurrency);
+        this.acquireTimeout = acquireTimeout;
+        this.retryAfter = retryAfter;
+    }
+
+    public List<SpaceDetailInfoDto> recommend(SpaceDetailRequestDto requestDto) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+
+        if (!acquirePermit()) {
+            stop(sample, "REJECTED");
+            log.warn("AiRecommendationClient.recommend() rejected: too many concurrent requests");
+
+            throw new ServiceOverloadedException("AI 장소 추천 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+
+        try {
+            ResponseEntity<List<SpaceDetailInfoDto>> responseEntity = restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(SpaceInfoForAIDto.of(requestDto)), RESPONSE_TYPE);
+            List<SpaceDetailInfoDto> body = responseEntity.getBody();
+
+            return body == null ? List.of() : body;
+        } catch (ResourceAccessException e) {
+            boolean timeout = e.getCause() instanceof SocketTimeoutException;
+            outcome = timeout ? "TIMEOUT" : "IO_ERROR";
+            log.warn("AiRecommendationClient.recommend() failed: {}", e.getMessage());
+
+            throw new ExternalApiException("AI 장소 추천 서버에 연결할 수 없습니다.", e, timeout);
+        } catch (RestClientException e) {
+            outcome = "ERROR";
+            log.warn("AiRecommendationClient.recommend() failed: {}", e.getMessage());
+
+            throw new ExternalApiException("AI 장소 추천 요청에 실패했습니다.", e, false);
+        } finally {
+            permits.release();
+            stop(sample, outcome);
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void stop(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("AI 장소 추천 서버 호출 지연 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+}
@@ -0,0 +1,149 @@
+package success.planfit.space.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import success.planfit.entity.space.SpaceDetail;
+import success.planfit.repository.SpaceDetailRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구글 장소 식별자로 SpaceDetail을 찾는 컴포넌트
+ * 식별자 -> ID 맵을 메모리에 유지해 식별자 조회를 기본 키 조회로 바꿈
+ * 맵은 시작 시 채워지고 저장 시 갱신되며, 조회한 엔티티의 식별자가 다르거나 없으면 DB 조회로 대체한 뒤 맵을 고침
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpaceDetailResolver {
+
+    private final SpaceDetailRepository spaceDetailRepository;
+    private final Map<String, Long> identifierToId = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (SpaceDetailRepository.IdentifierView view : spaceDetailRepository.findAllIdentifiers()) {
+            identifierToId.put(view.getGooglePlacesIdentifier(), view.getId());
+        }
+
+        log.info("SpaceDetailResolver.warmUp() loaded {} identifiers", identifierToId.size());
+    }
+
+    /**
+     * 새로 저장된 SpaceDetail을 맵에 등록하는 메서드
+     */
+    public void register(SpaceDetail spaceDetail) {
+        if (spaceDetail.getId() != null) {
+            identifierToId.put(spaceDetail.getGooglePlacesIdentifier(), spaceDetail.getId());
+        }
+    }
+
+    public Optional<SpaceDetail> resolve(String googlePlacesIdentifier) {
+        Long id = identifierToId.get(googlePlacesIdentifier);
+        if (id != null) {
+            Optional<SpaceDetail> spaceDetail = spaceDetailRepository.findById(id)
+                    .filter(found -> found.getGooglePlacesIdentifier().equals(googlePlacesIdentifier));
+
+            if (spaceDetail.isPresent()) {
+                return spaceDetail;
+            }
+            identifierToId.remove(googlePlacesIdentifier, id);
+        }
+
+        Optional<SpaceDetail> spaceDetail = spaceDetailRepository.findByGooglePlacesIdentifier(googlePlacesIdentifier);
+        spaceDetail.ifPresent(this::register);
+
+        return spaceDetail;
+    }
+
+    /**
+     * 구글 장소 식별자들에 해당하는 SpaceDetail을 조회해 식별자 -> SpaceDetail 맵으로 반환하는 메서드
+     * 존재하지 않는 식별자가 있으면 누락된 식별자를 모두 담아 예외를 던짐
+     */
+    public Map<String, SpaceDetail> resolveAll(Collection<String> googlePlacesIdentifiers) {
+        Set<String> identifiers = new LinkedHashSet<>(googlePlacesIdentifiers);
+        Map<String, SpaceDetail> spaceDetails = findAllExisting(identifiers);
+
+        validateAllResolved(identifiers, spaceDetails);
+
+        return spaceDetails;
+    }
+
+    /**
+     * 구글 장소 식별자들 중 DB에 존재하는 SpaceDetail만 식별자 -> SpaceDetail 맵으로 반환하는 메서드
+     * 맵에 있는 식별자는 기본 키로, 나머지는 식별자 IN 쿼리로 한 번에 조회함
+     */
+    public Map<String, SpaceDetail> findAllExisting(Collection<String> googlePlacesIdentifiers) {
+        Set<String> identifiers = new LinkedHashSet<>(googlePlacesIdentifiers);
+        if (identifiers.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, SpaceDetail> spaceDetails = new HashMap<>();
+        findByKnownIds(identifiers, spaceDetails);
+
+        List<String> unresolvedIdentifiers = getUnresolvedIdentifiers(identifiers, spaceDetails);
+        if (!unresolvedIdentifiers.isEmpty()) {
+            for (SpaceDetail spaceDetail : spaceDetailRepository.findAllByGooglePlacesIdentifierIn(unresolvedIdentifiers)) {
+                spaceDetails.putIfAbsent(spaceDetail.getGooglePlacesIdentifier(), spaceDetail);
+                register(spaceDetail);
+            }
+        }
+
+        return Collections.unmodifiableMap(spaceDetails);
+    }
+
+    private void findByKnownIds(Set<String> identifiers, Map<String, SpaceDetail> spaceDetails) {
+        List<Long> knownIds = new ArrayList<>();
+        for (String identifier : identifiers) {
+            Long id = identifierToId.get(identifier);
+            if (id != null) {
+                knownIds.add(id);
+            }
+        }
+
+        if (knownIds.isEmpty()) {
+            return;
+        }
+
+        for (SpaceDetail spaceDetail : spaceDetailRepository.findAllById(knownIds)) {
+            if (identifiers.contains(spaceDetail.getGooglePlacesIdentifier())) {
+                spaceDetails.put(spaceDetail.getGooglePlacesIdentifier(), spaceDetail);
+            }
+        }
+
+        for (String identifier : identifiers) {
+            if (!spaceDetails.containsKey(identifier)) {
+                identifierToId.remove(identifier);
+            }
+        }
+    }
+
+    private List<String> getUnresolvedIdentifiers(Set<String> identifiers, Map<String, SpaceDetail> spaceDetails) {
+        return identifiers.stream()
+                .filter(identifier -> !spaceDetails.containsKey(identifier))
+                .toList();
+    }
+
+    private void validateAllResolved(Set<String> identifiers, Map<String, SpaceDetail> spaceDetails) {
+        List<String> missingIdentifiers = getUnresolvedIdentifiers(identifiers, spaceDetails);
+
+        if (!missingIdentifiers.isEmpty()) {
+            throw new EntityNotFoundException("SpaceDetail이 존재하지 않습니다. googlePlacesIdentifier: " + missingIdentifiers);
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package success.planfit.space.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import success.planfit.course.dto.SpaceDetailInfoDto;
+import success.planfit.entity.space.SpaceDetail;
+import success.planfit.entity.space.SpacePhoto;
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.photo.PhotoProvider;
+import success.planfit.global.photo.PhotoService;
+import success.planfit.repository.SpaceDetailRepository;
+import success.planfit.repository.SpacePhotoRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Transactional
+@Service
+@RequiredArgsConstructor
+public class SpaceDetailUpsertService {
+
+    private final SpaceDetailRepository spaceDetailRepository;
+    private final SpacePhotoRepository spacePhotoRepository;
+    private final SpaceDetailResolver spaceDetailResolver;
+    private final PhotoService photoService;
+
+    /**
+     * AI가 반환한 장소들을 한 번에 반영하는 메서드
+     * 1. 식별자 기준으로 중복을 제거하고, 존재하는 SpaceDetail을 한 번에 조회
+     * 2. 존재하는 장소는 정보가 달라진 경우에만 수정하고, 저장되지 않은 내용의 사진만 추가
+     * 3. 존재하지 않는 장소는 모아서 saveAll로 저장
+     * AI가 보낸 Base64 사진 대신 저장된 사진의 해시를 담은 장소 정보를 반환함 (응답 시 사진 조회 URL로 직렬화됨)
+     */
+    public List<SpaceDetailInfoDto> upsert(List<SpaceDetailInfoDto> spaceDetailInfoDtos) {
+        Map<String, SpaceDetailInfoDto> infoDtos = new LinkedHashMap<>();
+        for (SpaceDetailInfoDto spaceDetailInfoDto : spaceDetailInfoDtos) {
+            infoDtos.putIfAbsent(spaceDetailInfoDto.getGooglePlacesIdentifier(), spaceDetailInfoDto);
+        }
+
+        Map<String, SpaceDetail> existingSpaceDetails = spaceDetailResolver.findAllExisting(infoDtos.keySet());
+        Map<Long, Set<String>> storedPhotoHashes = findStoredPhotoHashes(existingSpaceDetails.values());
+
+        List<SpaceDetail> newSpaceDetails = new ArrayList<>();
+        List<SpaceDetailInfoDto> storedInfoDtos = new ArrayList<>();
+        for (SpaceDetailInfoDto spaceDetailInfoDto : infoDtos.values()) {
+            SpaceDetail spaceDetail = existingSpaceDetails.get(spaceDetailInfoDto.getGooglePlacesIdentifier());
+            Set<String> storedHashes = spaceDetail == null
+                    ? Set.of()
+                    : storedPhotoHashes.getOrDefault(spaceDetail.getId(), Set.of());
+
+            if (spaceDetail == null) {
+                spaceDetail = createSpaceDetail(spaceDetailInfoDto);
+                newSpaceDetails.add(spaceDetail);
+            } else if (!spaceDetail.hasSameInfo(spaceDetailInfoDto)) {
+                spaceDetail.update(spaceDetailInfoDto);
+            }
+
+            List<String> photoHashes = storePhotos(spaceDetailInfoDto.getSpacePhotos(), storedHashes);
+            List<String> newPhotoHashes = photoHashes.stream()
+                    .filter(photoHash -> !storedHashes.contains(photoHash))
+                    .toList();
+            spaceDetail.addSpacePhotos(SpacePhoto.createSpacePhoto(newPhotoHashes));
+
+            storedInfoDtos.add(spaceDetailInfoDto.toBuilder()
+                    .spacePhotos(photoHashes)
+                    .build());
+        }
+
+        spaceDetailRepository.saveAll(newSpaceDetails)
+                .forEach(spaceDetailResolver::register);
+
+        return storedInfoDtos;
+    }
+
+    /**
+     * Base64 사진들의 내용 해시를 중복 없이 순서대로 반환하는 메서드
+     * 이미 저장된 해시(storedHashes)에 없는 사진만 사진 저장소에 저장함
+     * 이미지로 해석할 수 없는 사진은 추천 결과 전체를 실패시키지 않고 건너뜀
+     */
+    private List<String> storePhotos(List<String> spacePhotos, Set<String> storedHashes) {
+        if (spacePhotos == null) {
+            return List.of();
+        }
+
+        Set<String> photoHashes = new LinkedHashSet<>();
+        for (String spacePhoto : spacePhotos) {
+            byte[] photo = PhotoProvider.decode(spacePhoto);
+            String photoHash = PhotoProvider.hash(photo);
+
+            if (storedHashes.contains(photoHash) || photoHashes.contains(photoHash)) {
+                photoHashes.add(photoHash);
+                continue;
+            }
+
+            try {
+                photoService.store(photo);
+                photoHashes.add(photoHash);
+            } catch (IllegalRequestException e) {
+                log.warn("SpaceDetailUpsertService.storePhotos() skipped photo: {}", e.getMessage());
+            }
+        }
+
+        return List.copyOf(photoHashes);
+    }
+
+    private Map<Long, Set<String>> findStoredPhotoHashes(Collection<SpaceDetail> spaceDetails) {
+        if (spaceDetails.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> spaceDetailIds = spaceDetails.stream()
+                .map(SpaceDetail::getId)
+                .toList();
+
+        return spacePhotoRepository.findContentHashesBySpaceDetailIdIn(spaceDetailIds).stream()
+                .collect(Collectors.groupingBy(
+                        SpacePhotoRepository.ContentHashView::getSpaceDetailId,
+                        Collectors.mapping(SpacePhotoRepository.ContentHashView::getContentHash, Collectors.toSet())
+                ));
+    }
+
+    private static SpaceDetail createSpaceDetail(SpaceDetailInfoDto spaceDetailInfoDto) {
+        SpaceDetail spaceDetail = SpaceDetail.builder()
+                .googlePlacesIdentifier(spaceDetailInfoDto.getGooglePlacesIdentifier())
+                .spaceName(spaceDetailInfoDto.getSpaceName())
+                .location(spaceDetailInfoDto.getLocation())
+                .spaceType(spaceDetailInfoDto.getSpaceType())
+                .latitude(spaceDetailInfoDto.getLatitude())
+                .longitude(spaceDetailInfoDto.getLongitude())
+                .link(spaceDetailInfoDto.getLink())
+                .build();
+        return spaceDetail;
+    }
+
+}
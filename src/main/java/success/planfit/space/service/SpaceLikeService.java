@@ -3,15 +3,16 @@ package success.planfit.space.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import success.planfit.entity.like.SpaceLike;
 import success.planfit.entity.space.SpaceDetail;
-import success.planfit.entity.user.User;
+import success.planfit.global.paging.KeysetPaging;
 import success.planfit.repository.SpaceDetailRepository;
 import success.planfit.repository.SpaceLikeRepository;
-import success.planfit.repository.UserRepository;
 import success.planfit.space.dto.response.SpaceLikeResponseDto;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Transactional
@@ -19,55 +20,52 @@ import java.util.List;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class SpaceLikeService {
 
-    private final UserRepository userRepository;
     private final SpaceLikeRepository spaceLikeRepository;
     private final SpaceDetailRepository spaceDetailRepository;
+    private final SpaceDetailResolver spaceDetailResolver;
 
+    /**
+     * 장소 좋아요를 추가하는 메서드로, 이미 좋아요한 장소이면 아무것도 변경하지 않음
+     * 좋아요가 실제로 추가된 경우에만 좋아요 수를 증가시킴
+     */
     public void likeSpace(String googlePlacesIdentifier, Long userId) {
-        SpaceDetail spaceDetail = spaceDetailRepository.findByGooglePlacesIdentifier(googlePlacesIdentifier)
+        SpaceDetail spaceDetail = spaceDetailResolver.resolve(googlePlacesIdentifier)
                 .orElseThrow(() -> new EntityNotFoundException("장소를 찾을 수 없습니다."));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 수 없습니다."));
 
-        if (spaceLikeRepository.existsByUserAndSpaceDetail(user, spaceDetail)) {
-            throw new IllegalStateException("유저가 이미 좋아요 한 장소입니다.");
+        if (spaceLikeRepository.insertIfAbsent(userId, spaceDetail.getId()) == 0) {
+            return;
         }
 
-        SpaceLike spaceLike = SpaceLike.builder()
-                .spaceDetail(spaceDetail)
-                .user(user)
-                .build();
-
-        user.addSpaceLike(spaceLike);
-        spaceDetail.increaseLikeCount();
-
+        spaceDetailRepository.increaseLikeCount(spaceDetail.getId());
     }
 
+    /**
+     * 좋아요한 장소를 (좋아요 시각, 좋아요 ID) 내림차순으로 size개 조회하는 메서드
+     * 커서(cursorLikedAt, cursorId)가 주어지면 해당 좋아요 다음부터 조회함
+     */
     @Transactional(readOnly = true)
-    public List<SpaceLikeResponseDto> getLikedSpaces(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 수 없습니다."));
+    public List<SpaceLikeResponseDto> getLikedSpaces(Long userId, LocalDateTime cursorLikedAt, Long cursorId, int size) {
+        Pageable pageable = KeysetPaging.createPageable(size);
 
-        List<SpaceLikeResponseDto> spaceLikeResponseDtos = user.getSpaceLikes()
-                .stream()
-                .map((spaceLike) -> spaceLike.getSpaceDetail())
-                .map((spaceDetail) -> new SpaceLikeResponseDto(spaceDetail))
-                .toList();
+        if (KeysetPaging.hasCursor(cursorLikedAt, cursorId)) {
+            return spaceLikeRepository.findLikedSpacesAfterCursor(userId, cursorLikedAt, cursorId, pageable);
+        }
 
-        return spaceLikeResponseDtos;
+        return spaceLikeRepository.findLikedSpaces(userId, pageable);
     }
 
+    /**
+     * 장소 좋아요를 취소하는 메서드로, 좋아요하지 않은 장소이면 아무것도 변경하지 않음
+     */
     public void unlikeSpace(String googlePlacesIdentifier, Long userId) {
-        SpaceDetail spaceDetail = spaceDetailRepository.findByGooglePlacesIdentifier(googlePlacesIdentifier)
+        SpaceDetail spaceDetail = spaceDetailResolver.resolve(googlePlacesIdentifier)
                 .orElseThrow(() -> new EntityNotFoundException("장소를 찾을 수 없습니다."));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 수 없습니다."));
 
-        SpaceLike spaceLike = spaceLikeRepository.findByUserAndSpaceDetail(user, spaceDetail)
-                .orElseThrow(() -> new EntityNotFoundException("좋아요를 찾을 수 없습니다."));
+        if (spaceLikeRepository.deleteByUserIdAndSpaceDetailId(userId, spaceDetail.getId()) == 0) {
+            return;
+        }
 
-        user.removeSpaceLike(spaceLike);
-        spaceDetail.decreaseLikeCount();
+        spaceDetailRepository.decreaseLikeCount(spaceDetail.getId());
     }
 
 }
@@ -0,0 +1,83 @@
+package success.planfit.space.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import success.planfit.course.dto.SpaceDetailInfoDto;
+import success.planfit.space.dto.request.SpaceDetailRequestDto;
+import success.planfit.space.util.GeoHash;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 장소 추천 결과를 보관하는 캐시
+ * 키는 geohash로 양자화한 좌표, 구간으로 나눈 반경, 장소 유형이며 크기와 TTL이 제한됨
+ * hit/miss/eviction 지표는 cache.* 메트릭(name=spaceRecommendation)으로 노출됨
+ */
+@Component
+public class SpaceRecommendationCache {
+
+    private static final String CACHE_NAME = "spaceRecommendation";
+
+    private final Cache<RecommendationKey, List<SpaceDetailInfoDto>> cache;
+    private final int geoHashPrecision;
+    private final double radiusBucketMeters;
+
+    public SpaceRecommendationCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.space-recommendation.maximum-size:500}") long maximumSize,
+            @Value("${cache.space-recommendation.expire-after-write:30m}") Duration expireAfterWrite,
+            @Value("${cache.space-recommendation.geohash-precision:6}") int geoHashPrecision,
+            @Value("${cache.space-recommendation.radius-bucket-meters:500}") double radiusBucketMeters
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.geoHashPrecision = geoHashPrecision;
+        this.radiusBucketMeters = radiusBucketMeters;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 요청에 대한 캐시 키를 생성하는 메서드
+     * 좌표가 없는 요청은 양자화할 수 없으므로 캐시하지 않음
+     */
+    public Optional<RecommendationKey> createKey(SpaceDetailRequestDto requestDto) {
+        if (requestDto.getLatitude() == null || requestDto.getLongitude() == null) {
+            return Optional.empty();
+        }
+
+        String geoHash = GeoHash.encode(requestDto.getLatitude(), requestDto.getLongitude(), geoHashPrecision);
+        long radiusBucket = (long) Math.ceil(requestDto.getRadius() / radiusBucketMeters);
+
+        return Optional.of(new RecommendationKey(geoHash, radiusBucket, requestDto.getSpaceType()));
+    }
+
+    public Optional<List<SpaceDetailInfoDto>> get(RecommendationKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * AI 호출은 캐시 밖에서 수행한 뒤 결과만 저장함
+     * 계산 도중 캐시 내부 잠금을 오래 잡고 있지 않기 위함
+     */
+    public void put(RecommendationKey key, List<SpaceDetailInfoDto> spaceDetailInfoDtos) {
+        cache.put(key, List.copyOf(spaceDetailInfoDtos));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public record RecommendationKey(String geoHash, long radiusBucket, String spaceType) {
+    }
+
+}
@@ -4,24 +4,16 @@ package success.planfit.space.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import success.planfit.course.dto.SpaceDetailInfoDto;
 import success.planfit.course.dto.SpaceRequestDto;
 import success.planfit.entity.course.Course;
 import success.planfit.entity.schedule.Schedule;
-import success.planfit.entity.space.SpaceDetail;
-import success.planfit.entity.space.SpacePhoto;
 import success.planfit.repository.ScheduleRepository;
 import success.planfit.repository.SpaceDetailRepository;
 import success.planfit.space.dto.request.SpaceDetailRequestDto;
-import success.planfit.space.dto.request.SpaceInfoForAIDto;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,31 +26,41 @@ public class SpaceService {
 
     private final SpaceDetailRepository spaceDetailRepository;
     private final ScheduleRepository scheduleRepository;
-    private  String URL;
+    private final SpaceDetailUpsertService spaceDetailUpsertService;
+    private final AiRecommendationClient aiRecommendationClient;
+    private final SpaceRecommendationCache spaceRecommendationCache;
 
     public SpaceService(ScheduleRepository scheduleRepository, SpaceDetailRepository spaceDetailRepository,
-                        @Value("${external.ai.base-url}") String URL) {
+                        SpaceDetailUpsertService spaceDetailUpsertService, AiRecommendationClient aiRecommendationClient,
+                        SpaceRecommendationCache spaceRecommendationCache) {
         this.scheduleRepository = scheduleRepository;
         this.spaceDetailRepository = spaceDetailRepository;
-        this.URL = URL;
+        this.spaceDetailUpsertService = spaceDetailUpsertService;
+        this.aiRecommendationClient = aiRecommendationClient;
+        this.spaceRecommendationCache = spaceRecommendationCache;
     }
 
     /**
      * AI에게 장소 조회 요청
+     * 같은 격자/반경 구간/장소 유형의 요청은 캐시된 결과를 반환하며, 이때 AI 서버와 DB에 접근하지 않음
+     * AI 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행하고, 저장만 별도 트랜잭션에서 수행함
+     * 응답과 캐시에는 AI가 보낸 Base64 사진 대신 저장된 사진의 조회 URL을 담음
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<SpaceDetailInfoDto> getSpaceDetails(SpaceDetailRequestDto requestDto){
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<List<SpaceDetailInfoDto>> responseEntity = restTemplate.exchange(URL, HttpMethod.POST, new HttpEntity<>(SpaceInfoForAIDto.of(requestDto)), new ParameterizedTypeReference<>() {
-        });
+        Optional<SpaceRecommendationCache.RecommendationKey> key = spaceRecommendationCache.createKey(requestDto);
+        Optional<List<SpaceDetailInfoDto>> cachedSpaceDetailInfoDtos = key.flatMap(spaceRecommendationCache::get);
+        if (cachedSpaceDetailInfoDtos.isPresent()) {
+            return cachedSpaceDetailInfoDtos.get();
+        }
 
-        if (isRequestSuccess(responseEntity)){
-            List<SpaceDetailInfoDto> spaceDetailInfoDtos = responseEntity.getBody();
-            saveSpaceDetail(spaceDetailInfoDtos);
+        List<SpaceDetailInfoDto> spaceDetailInfoDtos = spaceDetailUpsertService.upsert(aiRecommendationClient.recommend(requestDto));
 
-            return spaceDetailInfoDtos.stream().
-                    sorted().toList();
-        }
-        throw new RuntimeException("장소 조회 실패");
+        List<SpaceDetailInfoDto> sortedSpaceDetailInfoDtos = spaceDetailInfoDtos.stream().
+                sorted().toList();
+        key.ifPresent(presentKey -> spaceRecommendationCache.put(presentKey, sortedSpaceDetailInfoDtos));
+
+        return sortedSpaceDetailInfoDtos;
     }
 
     /**
@@ -94,37 +96,4 @@ public class SpaceService {
                 .orElseThrow(() ->  new EntityNotFoundException("장소 정보를 찾을 수 없음"));
     }
 
-    private static SpaceDetail createSpaceDetail(SpaceDetailInfoDto spaceDetailInfoDto) {
-        SpaceDetail spaceDetail = SpaceDetail.builder()
-                .googlePlacesIdentifier(spaceDetailInfoDto.getGooglePlacesIdentifier())
-                .spaceName(spaceDetailInfoDto.getSpaceName())
-                .location(spaceDetailInfoDto.getLocation())
-                .spaceType(spaceDetailInfoDto.getSpaceType())
-                .latitude(spaceDetailInfoDto.getLatitude())
-                .longitude(spaceDetailInfoDto.getLongitude())
-                .link(spaceDetailInfoDto.getLink())
-                .build();
-        return spaceDetail;
-    }
-
-    private boolean isRequestSuccess(ResponseEntity<List<SpaceDetailInfoDto>> responseEntity) {
-        return responseEntity.getStatusCode().is2xxSuccessful();
-    }
-
-    private void saveSpaceDetail(List<SpaceDetailInfoDto> SpaceDetailInfoDtos) {
-        SpaceDetailInfoDtos
-                .forEach(spaceDetailInfoDto -> {
-                    Optional<SpaceDetail> foundSpaceDetail = spaceDetailRepository.findByGooglePlacesIdentifier(spaceDetailInfoDto.getGooglePlacesIdentifier());
-                    // 만약에 DB 값이 있다면 데이터 업데이트
-                    foundSpaceDetail.ifPresent(spaceDetail ->
-                        spaceDetail.update(spaceDetailInfoDto)
-                    );
-                    // 만약에 DB 값이 없다면 DB에 저장
-                    SpaceDetail spaceDetail = createSpaceDetail(spaceDetailInfoDto);
-                    List<SpacePhoto> spacePhotos = SpacePhoto.createSpacePhoto(spaceDetailInfoDto.getSpacePhotos());
-                    spaceDetail.addSpacePhotos(spacePhotos);
-                    spaceDetailRepository.save(spaceDetail);
-                });
-    }
-
 }
@@ -0,0 +1,71 @@
+package success.planfit.space.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위도/경도를 geohash 문자열로 변환하는 유틸리티
+ * 같은 geohash를 가지는 좌표들은 같은 격자(precision 6 기준 약 1.2km x 0.6km)에 속함
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int BITS_PER_CHARACTER = 5;
+    private static final int MAXIMUM_PRECISION = 12;
+
+    public static String encode(double latitude, double longitude, int precision) {
+        validate(latitude, longitude, precision);
+
+        double[] latitudeRange = {-90.0, 90.0};
+        double[] longitudeRange = {-180.0, 180.0};
+
+        StringBuilder geoHash = new StringBuilder(precision);
+        boolean isLongitudeBit = true;
+        int bitCount = 0;
+        int characterIndex = 0;
+
+        while (geoHash.length() < precision) {
+            if (isLongitudeBit) {
+                characterIndex = (characterIndex << 1) | bisect(longitudeRange, longitude);
+            } else {
+                characterIndex = (characterIndex << 1) | bisect(latitudeRange, latitude);
+            }
+            isLongitudeBit = !isLongitudeBit;
+            bitCount++;
+
+            if (bitCount == BITS_PER_CHARACTER) {
+                geoHash.append(BASE32[characterIndex]);
+                bitCount = 0;
+                characterIndex = 0;
+            }
+        }
+
+        return geoHash.toString();
+    }
+
+    /**
+     * 범위를 반으로 나누고, 값이 위쪽 절반에 속하면 1, 아래쪽 절반에 속하면 0을 반환하는 메서드
+     */
+    private static int bisect(double[] range, double value) {
+        double middle = (range[0] + range[1]) / 2;
+
+        if (value >= middle) {
+            range[0] = middle;
+            return 1;
+        }
+
+        range[1] = middle;
+        return 0;
+    }
+
+    private static void validate(double latitude, double longitude, int precision) {
+        if (latitude < -90.0 || latitude > 90.0 || longitude < -180.0 || longitude > 180.0) {
+            throw new IllegalArgumentException("위도 또는 경도가 범위를 벗어났습니다.");
+        }
+        if (precision < 1 || precision > MAXIMUM_PRECISION) {
+            throw new IllegalArgumentException("geohash 정밀도는 1 이상 " + MAXIMUM_PRECISION + " 이하여야 합니다.");
+        }
+    }
+
+}
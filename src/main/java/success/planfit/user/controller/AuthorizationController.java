@@ -11,14 +11,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import success.planfit.global.controller.ControllerUtil;
 import success.planfit.global.controller.PlanfitExceptionHandler;
-import success.planfit.global.jwt.dto.AccessTokenResponseDto;
+import success.planfit.global.jwt.RefreshTokenService;
 import success.planfit.global.jwt.dto.TokenResponseDto;
 import success.planfit.user.dto.PlanfitUserSignInRequestDto;
 import success.planfit.user.dto.PlanfitUserSignUpRequestDto;
 import success.planfit.user.service.GoogleAuthorizationService;
 import success.planfit.user.service.KaKaoAuthorizationService;
 import success.planfit.user.service.PlanfitAuthorizationService;
-import success.planfit.user.service.UserService;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -38,7 +37,7 @@ public class AuthorizationController {
     private final KaKaoAuthorizationService kaKaoAuthorizationService;
     private final PlanfitAuthorizationService planfitAuthorizationService;
     private final GoogleAuthorizationService googleAuthorizationService;
-    private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/planfit")
     @Operation(
@@ -119,13 +118,16 @@ public class AuthorizationController {
     @GetMapping("/reissue")
     @Operation(
         summary = "Access Token 재발급",
-        description = "Refresh Token을 통해 Access Token을 재발급합니다"
+        description = "Refresh Token을 통해 Access Token과 새 Refresh Token을 재발급합니다. "
+                + "응답의 accessToken 필드는 기존과 같으며 refreshToken 필드가 추가되었습니다. "
+                + "사용한 Refresh Token은 폐기되므로, 클라이언트는 저장된 Refresh Token을 응답의 refreshToken으로 교체해야 합니다. "
+                + "폐기된 토큰을 다시 사용하면 같은 로그인에서 발급된 토큰이 모두 폐기되어 다시 로그인해야 합니다"
     )
-    public ResponseEntity<AccessTokenResponseDto> reissueAccessToken(HttpServletRequest request) {
+    public ResponseEntity<TokenResponseDto> reissueAccessToken(HttpServletRequest request) {
         log.info("AuthorizationController.reissueAccessToken() called");
 
         String refreshToken = util.getTokenFromServletRequest(request);
-        AccessTokenResponseDto responseDto = userService.reissueAccessToken(refreshToken);
+        TokenResponseDto responseDto = refreshTokenService.reissue(refreshToken);
         return ResponseEntity.ok(responseDto);
     }
 
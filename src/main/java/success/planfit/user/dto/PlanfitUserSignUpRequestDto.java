@@ -6,7 +6,6 @@ import lombok.Getter;
 import org.springframework.format.annotation.DateTimeFormat;
 import success.planfit.entity.user.IdentityType;
 import success.planfit.entity.user.PlanfitUser;
-import success.planfit.global.photo.PhotoProvider;
 import success.planfit.global.photo.PhotoType;
 import success.planfit.global.validation.NotEmptyAndNotBlank;
 
@@ -40,16 +39,15 @@ public class PlanfitUserSignUpRequestDto {
 
     private PhotoType photoType;
 
-    public PlanfitUser toEntity() {
-
-        photoType = photoType == null ? PhotoType.NULL : photoType;
-
-        byte[] photo = switch (photoType) {
-            case URL -> PhotoProvider.getImageFromUrl(profilePhoto);
-            case ENCODED_BINARY -> PhotoProvider.decode(profilePhoto);
-            default -> null;
-        };
+    public PhotoType getPhotoType() {
+        return photoType == null ? PhotoType.NULL : photoType;
+    }
 
+    /**
+     * 회원 엔티티를 생성하는 메서드
+     * 프로필 사진은 서비스에서 저장한 뒤 그 내용 해시를 전달받음
+     */
+    public PlanfitUser toEntity(String profilePhotoHash) {
         return PlanfitUser.builder()
                 .name(name)
                 .loginId(loginId)
@@ -58,7 +56,7 @@ public class PlanfitUserSignUpRequestDto {
                 .phoneNumber(phoneNumber)
                 .birthOfDate(birthOfDate)
                 .identity(identity)
-                .profilePhoto(photo)
+                .profilePhotoHash(profilePhotoHash)
                 .build();
     }
 
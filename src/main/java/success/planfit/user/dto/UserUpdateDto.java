@@ -3,9 +3,9 @@ package success.planfit.user.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import success.planfit.global.photo.PhotoProvider;
 import success.planfit.entity.user.IdentityType;
 import success.planfit.entity.user.User;
+import success.planfit.global.photo.PhotoJson;
 
 import java.time.LocalDate;
 
@@ -20,12 +20,13 @@ public class UserUpdateDto {
     private LocalDate birthOfDate;
     private IdentityType identity;
     private String password;
+    @PhotoJson
     private String profilePhoto;
 
     public static UserUpdateDto from(User user) {
         return UserUpdateDto.builder()
                 .name(user.getName())
-                .profilePhoto(PhotoProvider.encode(user.getProfilePhoto()))
+                .profilePhoto(user.getProfilePhotoHash())
                 .birthOfDate(user.getBirthOfDate())
                 .name(user.getName())
                 .phoneNumber(user.getPhoneNumber())
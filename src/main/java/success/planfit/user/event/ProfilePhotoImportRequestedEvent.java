@@ -0,0 +1,12 @@
+package success.planfit.user.event;
+
+/**
+ * 소셜 회원가입으로 생성된 회원의 프로필 사진을 제공자 URL에서 가져와야 함을 알리는 이벤트
+ * 회원가입 트랜잭션 커밋 이후 ProfilePhotoImporter가 수신해 백그라운드에서 처리함
+ */
+public record ProfilePhotoImportRequestedEvent(
+        long userId,
+        String photoUrl
+) {
+
+}
@@ -1,32 +1,33 @@
 package success.planfit.user.service;
 
-import com.google.gson.Gson;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.LinkedMultiValueMap;
 import success.planfit.entity.user.GoogleUser;
 import success.planfit.entity.user.User;
+import success.planfit.global.jwt.RefreshTokenService;
 import success.planfit.global.jwt.TokenProvider;
 import success.planfit.global.jwt.TokenType;
 import success.planfit.global.jwt.dto.TokenResponseDto;
-import success.planfit.global.photo.PhotoProvider;
 import success.planfit.repository.UserRepository;
 import success.planfit.user.dto.GoogleAccessTokenDto;
 import success.planfit.user.dto.GoogleUserInfoDto;
-
-import java.net.URI;
-import java.util.Map;
+import success.planfit.user.event.ProfilePhotoImportRequestedEvent;
 
 @Service
 public class GoogleAuthorizationService {
 
     private final UserRepository userRepository;
     private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final OAuthClient oAuthClient;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private final String TOKEN_URL = "https://oauth2.googleapis.com/token";
-    private final String USER_INFO_URL = "https://www.googleapis.com/oauth2/v2/userinfo";
+    private static final String PROVIDER = "google";
+    private final String TOKEN_URL;
+    private final String USER_INFO_URL;
     private final String SCOPE = "https://www.googleapis.com/auth/userinfo.profile https://www.googleapis.com/auth/userinfo.email";
     private final String CLIENT_ID;
     private final String CLIENT_SECRET;
@@ -35,12 +36,23 @@ public class GoogleAuthorizationService {
     public GoogleAuthorizationService(
             UserRepository userRepository,
             TokenProvider tokenProvider,
+            RefreshTokenService refreshTokenService,
+            OAuthClient oAuthClient,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${external.oauth.google.token-url:https://oauth2.googleapis.com/token}") String tokenUrl,
+            @Value("${external.oauth.google.user-info-url:https://www.googleapis.com/oauth2/v2/userinfo}") String userInfoUrl,
             @Value("${keys.google.client-id}") String clientId,
             @Value("${keys.google.client-secret}") String clientSecret,
             @Value("${keys.google.redirect-uri}") String redirectUri
     ) {
         this.userRepository = userRepository;
         this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.oAuthClient = oAuthClient;
+        this.eventPublisher = eventPublisher;
+
+        this.TOKEN_URL = tokenUrl;
+        this.USER_INFO_URL = userInfoUrl;
 
         this.CLIENT_ID = clientId;
         this.CLIENT_SECRET = clientSecret;
@@ -60,28 +72,16 @@ public class GoogleAuthorizationService {
     }
 
     public String getGoogleAccessToken(String code) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        Map<String, String> params = Map.of(
-                "code", code,
-                "scope", SCOPE,
-                "client_id", CLIENT_ID,
-                "client_secret", CLIENT_SECRET,
-                "redirect_uri", REDIRECT_URI,
-                "grant_type", "authorization_code"
-        );
-
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(TOKEN_URL, params, String.class);
-
-        if (isRequestSuccess(responseEntity)) {
-            String json = responseEntity.getBody();
-            Gson gson = new Gson();
-
-            return gson.fromJson(json, GoogleAccessTokenDto.class)
-                    .getAccessToken();
-        }
-
-        throw new RuntimeException("구글 엑세스 토큰 획득 실패");
+        LinkedMultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("code", code);
+        params.add("scope", SCOPE);
+        params.add("client_id", CLIENT_ID);
+        params.add("client_secret", CLIENT_SECRET);
+        params.add("redirect_uri", REDIRECT_URI);
+        params.add("grant_type", "authorization_code");
+
+        return oAuthClient.postForm(PROVIDER, "token", TOKEN_URL, params, GoogleAccessTokenDto.class)
+                .getAccessToken();
     }
 
     @Transactional
@@ -89,41 +89,26 @@ public class GoogleAuthorizationService {
         GoogleUserInfoDto googleUserInfo = getGoogleUserInfo(googleAccessToken);
 
         User user = userRepository.findByGoogleIdentifier(googleUserInfo.getId())
-                .orElseGet(() -> userRepository.save(createUserByInfo(googleUserInfo)));
+                .orElseGet(() -> signUp(googleUserInfo));
 
         String accessTokenValue = tokenProvider.createToken(user, TokenType.ACCESS);
-        String refreshTokenValue = tokenProvider.createToken(user, TokenType.REFRESH);
-
-        setRefreshToken(user, refreshTokenValue);
+        String refreshTokenValue = refreshTokenService.issue(user.getId());
 
         return createTokenResponseDto(accessTokenValue, refreshTokenValue);
     }
 
     private GoogleUserInfoDto getGoogleUserInfo(String accessToken) {
-        RestTemplate restTemplate = new RestTemplate();
-        String url = new StringBuilder(USER_INFO_URL)
-                .append("?access_token=")
-                .append(accessToken)
-                .toString();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + accessToken);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        RequestEntity<Void> requestEntity = new RequestEntity<>(headers, HttpMethod.GET, URI.create(url));
-        ResponseEntity<String> responseEntity = restTemplate.exchange(requestEntity, String.class);
-
-        if (isRequestSuccess(responseEntity)) {
-            String json = responseEntity.getBody();
-            Gson gson = new Gson();
-            return gson.fromJson(json, GoogleUserInfoDto.class);
-        }
-
-        throw new RuntimeException("구글 유저 정보 획득 실패");
+        return oAuthClient.getWithBearer(PROVIDER, "user-info", USER_INFO_URL, accessToken, GoogleUserInfoDto.class);
     }
 
-    private boolean isRequestSuccess(ResponseEntity<String> responseEntity) {
-        return responseEntity.getStatusCode().is2xxSuccessful();
+    /**
+     * 회원을 프로필 사진 없이 바로 저장하고, 사진은 커밋 이후 ProfilePhotoImporter가 백그라운드에서 가져오도록 함
+     */
+    private User signUp(GoogleUserInfoDto googleUserInfo) {
+        User user = userRepository.save(createUserByInfo(googleUserInfo));
+        eventPublisher.publishEvent(new ProfilePhotoImportRequestedEvent(user.getId(), googleUserInfo.getPictureUrl()));
+
+        return user;
     }
 
     private GoogleUser createUserByInfo(GoogleUserInfoDto googleUserInfo) {
@@ -131,15 +116,9 @@ public class GoogleAuthorizationService {
                 .googleIdentifier(googleUserInfo.getId())
                 .email(googleUserInfo.getEmail())
                 .name(googleUserInfo.getName())
-                .profilePhoto(PhotoProvider.getImageFromUrl(googleUserInfo.getPictureUrl()))
                 .build();
     }
 
-    private void setRefreshToken(User user, String refreshTokenValue) {
-        user.getRefreshToken()
-                .setTokenValue(refreshTokenValue);
-    }
-
     private TokenResponseDto createTokenResponseDto(String accessToken, String refreshToken) {
         return TokenResponseDto.builder()
                 .accessToken(accessToken)
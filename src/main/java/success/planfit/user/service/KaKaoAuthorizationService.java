@@ -1,37 +1,36 @@
 package success.planfit.user.service;
 
-import com.google.gson.Gson;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import success.planfit.entity.user.KakaoUser;
 import success.planfit.entity.user.User;
 import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.jwt.RefreshTokenService;
 import success.planfit.global.jwt.TokenProvider;
 import success.planfit.global.jwt.TokenType;
 import success.planfit.global.jwt.dto.TokenResponseDto;
-import success.planfit.global.photo.PhotoProvider;
 import success.planfit.repository.UserRepository;
 import success.planfit.user.dto.KakaoAccessTokenDto;
 import success.planfit.user.dto.KakaoUserInfoDto;
+import success.planfit.user.event.ProfilePhotoImportRequestedEvent;
 
 @Service
 public class KaKaoAuthorizationService {
 
     private final UserRepository userRepository;
     private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final OAuthClient oAuthClient;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final String TOKEN_URL = "https://kauth.kakao.com/oauth/token";
-    private static final String USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+    private static final String PROVIDER = "kakao";
     private static final String SCOPE = "profile_nickname,profile_image,account_email";
 
+    private final String TOKEN_URL;
+    private final String USER_INFO_URL;
     private final String CLIENT_ID;
     private final String CLIENT_SECRET;
     private final String REDIRECT_URI;
@@ -39,13 +38,23 @@ public class KaKaoAuthorizationService {
     public KaKaoAuthorizationService(
             UserRepository userRepository,
             TokenProvider tokenProvider,
+            RefreshTokenService refreshTokenService,
+            OAuthClient oAuthClient,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${external.oauth.kakao.token-url:https://kauth.kakao.com/oauth/token}") String tokenUrl,
+            @Value("${external.oauth.kakao.user-info-url:https://kapi.kakao.com/v2/user/me}") String userInfoUrl,
             @Value("${keys.kakao.rest-api-key}") String clientId,
             @Value("${keys.kakao.client-secret}") String clientSecret,
             @Value("${keys.kakao.redirect-uri}") String redirectUri
     ) {
         this.userRepository = userRepository;
         this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.oAuthClient = oAuthClient;
+        this.eventPublisher = eventPublisher;
 
+        this.TOKEN_URL = tokenUrl;
+        this.USER_INFO_URL = userInfoUrl;
         this.CLIENT_ID = clientId;
         this.CLIENT_SECRET = clientSecret;
         this.REDIRECT_URI = redirectUri;
@@ -64,12 +73,6 @@ public class KaKaoAuthorizationService {
     }
 
     public String getKakaoAccessToken(String code) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        // 메시지 body 설정
         LinkedMultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("code", code);
         params.add("grant_type", "authorization_code");
@@ -77,19 +80,8 @@ public class KaKaoAuthorizationService {
         params.add("redirect_uri", REDIRECT_URI);
         params.add("client_secret", CLIENT_SECRET);
 
-        // POST 요청 전송
-        HttpEntity<MultiValueMap<String, String>> httpEntity = new HttpEntity<>(params, headers);
-        ResponseEntity<String> responseEntity = restTemplate.exchange(TOKEN_URL, HttpMethod.POST, httpEntity, String.class);
-
-        if (isRequestSuccess(responseEntity)) {
-            String json = responseEntity.getBody();
-            Gson gson = new Gson();
-
-            return gson.fromJson(json, KakaoAccessTokenDto.class)
-                    .getAccessToken();
-        }
-
-        throw new RuntimeException("카카오 엑세스 토큰 획득 실패");
+        return oAuthClient.postForm(PROVIDER, "token", TOKEN_URL, params, KakaoAccessTokenDto.class)
+                .getAccessToken();
     }
 
     @Transactional
@@ -101,37 +93,26 @@ public class KaKaoAuthorizationService {
         }
 
         User user = userRepository.findByKakaoIdentifier(kakaoUserInfo.getId())
-                .orElseGet(() -> userRepository.save(createUserByInfo(kakaoUserInfo)));
+                .orElseGet(() -> signUp(kakaoUserInfo));
 
         String accessTokenValue = tokenProvider.createToken(user, TokenType.ACCESS);
-        String refreshTokenValue = tokenProvider.createToken(user, TokenType.REFRESH);
-        user.getRefreshToken().setTokenValue(refreshTokenValue);
+        String refreshTokenValue = refreshTokenService.issue(user.getId());
 
         return createTokenResponseDto(accessTokenValue, refreshTokenValue);
     }
 
     private KakaoUserInfoDto getKakaoUserInfo(String accessToken) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + accessToken);
-        headers.set("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
-        HttpEntity<String> httpEntity = new HttpEntity<>(headers);
-
-        ResponseEntity<String> responseEntity = restTemplate.exchange(USER_INFO_URL, HttpMethod.GET, httpEntity, String.class);
-
-        if (isRequestSuccess(responseEntity)) {
-            String json = responseEntity.getBody();
-            Gson gson = new Gson();
-            return gson.fromJson(json, KakaoUserInfoDto.class);
-        }
-
-        throw new RuntimeException("카카오 유저 정보 획득 실패");
+        return oAuthClient.getWithBearer(PROVIDER, "user-info", USER_INFO_URL, accessToken, KakaoUserInfoDto.class);
     }
 
-    private boolean isRequestSuccess(ResponseEntity<String> responseEntity) {
-        return responseEntity.getStatusCode().is2xxSuccessful();
+    /**
+     * 회원을 프로필 사진 없이 바로 저장하고, 사진은 커밋 이후 ProfilePhotoImporter가 백그라운드에서 가져오도록 함
+     */
+    private User signUp(KakaoUserInfoDto kakaoUserInfo) {
+        User user = userRepository.save(createUserByInfo(kakaoUserInfo));
+        eventPublisher.publishEvent(new ProfilePhotoImportRequestedEvent(user.getId(), kakaoUserInfo.getProfileUrl()));
+
+        return user;
     }
 
     private KakaoUser createUserByInfo(KakaoUserInfoDto kakaoUserInfo) {
@@ -139,7 +120,6 @@ public class KaKaoAuthorizationService {
                 .kakaoIdentifier(kakaoUserInfo.getId())
                 .email(kakaoUserInfo.getEmail())
                 .name(kakaoUserInfo.getName())
-                .profilePhoto(PhotoProvider.getImageFromUrl(kakaoUserInfo.getProfileUrl()))
                 .build();
     }
 
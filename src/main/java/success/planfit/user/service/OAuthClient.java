@@ -0,0 +1,139 @@
+package success.planfit.user.service;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import success.planfit.global.exception.ExternalApiException;
+import success.planfit.global.exception.IllegalRequestException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * OAuth 제공자(구글, 카카오) 호출 클라이언트
+ * 커넥션 풀 기반 oauthRestTemplate과 미리 설정한 Gson 하나를 모든 제공자가 공유하며,
+ * 응답 본문은 문자열로 모으지 않고 스트림에서 바로 DTO로 파싱함
+ * 제공자의 4xx 응답은 IllegalRequestException(400)으로, 5xx 응답과 연결/읽기 실패는 ExternalApiException(502/504)으로 변환함
+ * 호출 지연 시간과 결과는 external.oauth.request 타이머(provider, operation, outcome 태그)로 기록됨
+ */
+@Slf4j
+@Component
+public class OAuthClient {
+
+    private static final String METRIC_NAME = "external.oauth.request";
+
+    /**
+     * 스레드 안전한 Gson을 한 번만 생성해 재사용함
+     * 제공자 응답의 snake_case 필드를 camelCase 필드에 매핑함
+     */
+    private static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OAuthClient(
+            @Qualifier("oauthRestTemplate") RestTemplate restTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * form-urlencoded 본문으로 POST 요청을 보내는 메서드 (인가 코드 -> 액세스 토큰 교환)
+     */
+    public <T> T postForm(String provider, String operation, String url, MultiValueMap<String, String> params, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.setAccept(MediaType.parseMediaTypes(MediaType.APPLICATION_JSON_VALUE));
+
+        return execute(provider, operation, url, HttpMethod.POST, new HttpEntity<>(params, headers), responseType);
+    }
+
+    /**
+     * 제공자의 액세스 토큰을 Bearer 헤더로 담아 GET 요청을 보내는 메서드 (유저 정보 조회)
+     */
+    public <T> T getWithBearer(String provider, String operation, String url, String accessToken, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.setAccept(MediaType.parseMediaTypes(MediaType.APPLICATION_JSON_VALUE));
+
+        return execute(provider, operation, url, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+    }
+
+    private <T> T execute(String provider, String operation, String url, HttpMethod method, HttpEntity<?> requestEntity, Class<T> responseType) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+
+        try {
+            RequestCallback requestCallback = restTemplate.httpEntityCallback(requestEntity);
+            T body = restTemplate.execute(url, method, requestCallback, response -> parse(response, responseType));
+            if (body == null) {
+                outcome = "ERROR";
+                throw new ExternalApiException(provider + " 응답이 비어 있습니다.");
+            }
+
+            return body;
+        } catch (ResourceAccessException e) {
+            boolean timeout = e.getCause() instanceof SocketTimeoutException;
+            outcome = timeout ? "TIMEOUT" : "IO_ERROR";
+            log.warn("OAuthClient.execute() {} {} failed: {}", provider, operation, e.getMessage());
+
+            throw new ExternalApiException(provider + " 서버에 연결할 수 없습니다.", e, timeout);
+        } catch (JsonParseException e) {
+            // 본문을 스트림으로 읽는 도중의 IOException(읽기 타임아웃 등)도 Gson이 감싸서 던짐
+            boolean timeout = e.getCause() instanceof SocketTimeoutException;
+            outcome = timeout ? "TIMEOUT" : "ERROR";
+            log.warn("OAuthClient.execute() {} {} failed: {}", provider, operation, e.getMessage());
+
+            throw new ExternalApiException(provider + " 응답을 읽을 수 없습니다.", e, timeout);
+        } catch (HttpClientErrorException e) {
+            // 제공자의 4xx 응답은 만료되었거나 잘못된 인가 코드, 토큰 등 클라이언트가 보낸 값의 문제이므로 400으로 응답함
+            outcome = "CLIENT_ERROR";
+            log.warn("OAuthClient.execute() {} {} rejected: {}", provider, operation, e.getStatusCode());
+
+            throw new IllegalRequestException(provider + " 인증 정보가 올바르지 않습니다.");
+        } catch (RestClientException e) {
+            outcome = "ERROR";
+            log.warn("OAuthClient.execute() {} {} failed: {}", provider, operation, e.getMessage());
+
+            throw new ExternalApiException(provider + " 인증 요청에 실패했습니다.", e, false);
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("OAuth 제공자 호출 지연 시간")
+                    .tag("provider", provider)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static <T> T parse(ClientHttpResponse response, Class<T> responseType) throws IOException {
+        try (Reader reader = new InputStreamReader(response.getBody(), StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, responseType);
+        }
+    }
+
+}
@@ -2,17 +2,22 @@ package success.planfit.user.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import success.planfit.entity.user.PlanfitUser;
 import success.planfit.entity.user.User;
+import success.planfit.global.jwt.RefreshTokenService;
 import success.planfit.global.jwt.TokenProvider;
 import success.planfit.global.jwt.TokenType;
 import success.planfit.global.jwt.dto.TokenResponseDto;
+import success.planfit.global.photo.PhotoService;
+import success.planfit.global.photo.PhotoType;
 import success.planfit.repository.UserRepository;
 import success.planfit.user.dto.PlanfitUserSignInRequestDto;
 import success.planfit.user.dto.PlanfitUserSignUpRequestDto;
+import success.planfit.user.event.ProfilePhotoImportRequestedEvent;
 
 import java.util.function.Supplier;
 
@@ -24,20 +29,32 @@ public class PlanfitAuthorizationService {
 
     private final UserRepository userRepository;
     private final TokenProvider tokenProvider;
-
+    private final RefreshTokenService refreshTokenService;
+    private final PhotoService photoService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Base64로 받은 프로필 사진은 바로 저장하고,
+     * URL로 받은 프로필 사진은 회원가입이 커밋된 이후 ProfilePhotoImporter가 백그라운드에서 가져옴
+     */
     @Transactional
     public TokenResponseDto planfitSignUp(PlanfitUserSignUpRequestDto requestDto) {
         if (isDuplicatedLoginId(requestDto.getLoginId())) {
             throw new DataIntegrityViolationException("다른 회원이 이미 사용하고 있는 아이디입니다.");
         }
 
-        PlanfitUser user = requestDto.toEntity();
+        String profilePhotoHash = requestDto.getPhotoType() == PhotoType.ENCODED_BINARY
+                ? photoService.storeEncoded(requestDto.getProfilePhoto())
+                : null;
+        PlanfitUser user = requestDto.toEntity(profilePhotoHash);
         userRepository.save(user);
 
-        String accessTokenValue = tokenProvider.createToken(user, TokenType.ACCESS);
-        String refreshTokenValue = tokenProvider.createToken(user, TokenType.REFRESH);
+        if (requestDto.getPhotoType() == PhotoType.URL) {
+            eventPublisher.publishEvent(new ProfilePhotoImportRequestedEvent(user.getId(), requestDto.getProfilePhoto()));
+        }
 
-        setRefreshToken(user, refreshTokenValue);
+        String accessTokenValue = tokenProvider.createToken(user, TokenType.ACCESS);
+        String refreshTokenValue = refreshTokenService.issue(user.getId());
 
         return createTokenResponseDto(accessTokenValue, refreshTokenValue);
     }
@@ -47,9 +64,7 @@ public class PlanfitAuthorizationService {
         User user = findUserBySignInRequestDto(requestDto);
 
         String accessTokenValue = tokenProvider.createToken(user, TokenType.ACCESS);
-        String refreshTokenValue = tokenProvider.createToken(user, TokenType.REFRESH);
-
-        setRefreshToken(user, refreshTokenValue);
+        String refreshTokenValue = refreshTokenService.issue(user.getId());
 
         return createTokenResponseDto(accessTokenValue, refreshTokenValue);
     }
@@ -60,11 +75,6 @@ public class PlanfitAuthorizationService {
                 .isPresent();
     }
 
-    private void setRefreshToken(User user, String refreshTokenValue) {
-        user.getRefreshToken()
-                .setTokenValue(refreshTokenValue);
-    }
-
     private User findUserBySignInRequestDto(PlanfitUserSignInRequestDto requestDto) {
         return userRepository.findByLoginIdAndPassword(requestDto.getLoginId(), requestDto.getPassword())
                 .orElseThrow(USER_NOT_FOUND_EXCEPTION_BY_ID_AND_PASSWORD);
@@ -0,0 +1,199 @@
+package success.planfit.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.photo.PhotoService;
+import success.planfit.repository.UserRepository;
+import success.planfit.user.event.ProfilePhotoImportRequestedEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * 소셜 회원가입 회원의 프로필 사진을 백그라운드에서 가져오는 컴포넌트
+ * 회원가입은 사진 없이 바로 커밋되고, 이후 제한된 대기열에서 사진을 내려받아 저장(썸네일 생성 포함)한 뒤 회원에 연결함
+ * 같은 회원의 요청은 처리 중인 동안 한 번만 수행하며, 실패하면 지수 백오프로 max-attempts까지 다시 시도함
+ * 응답은 max-file-size까지만 스트림으로 읽으며, 크기를 넘거나 이미지가 아닌 응답, 4xx 응답은 다시 시도하지 않고 거절함
+ * 처리 결과는 photo.profile-import 카운터(outcome 태그)로 기록됨
+ */
+@Slf4j
+@Component
+public class ProfilePhotoImporter {
+
+    private static final String METRIC_NAME = "photo.profile-import";
+
+    private final RestTemplate restTemplate;
+    private final UserRepository userRepository;
+    private final PhotoService photoService;
+    private final Executor executor;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final DataSize maximumFileSize;
+
+    /**
+     * 대기 중이거나 처리 중인 회원 ID -> 사진 URL
+     */
+    private final Map<Long, String> pending = new ConcurrentHashMap<>();
+
+    public ProfilePhotoImporter(
+            @Qualifier("photoImportRestTemplate") RestTemplate restTemplate,
+            UserRepository userRepository,
+            PhotoService photoService,
+            @Qualifier("profilePhotoImportExecutor") Executor executor,
+            TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${planfit.photo.profile-import.max-attempts:3}") int maxAttempts,
+            @Value("${planfit.photo.profile-import.retry-backoff:2s}") Duration retryBackoff,
+            @Value("${planfit.photo.max-file-size:10MB}") DataSize maximumFileSize
+    ) {
+        this.restTemplate = restTemplate;
+        this.userRepository = userRepository;
+        this.photoService = photoService;
+        this.executor = executor;
+        this.taskScheduler = taskScheduler;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maximumFileSize = maximumFileSize;
+    }
+
+    /**
+     * 회원 행이 커밋된 이후에만 가져오도록, 회원가입 트랜잭션 커밋 이후에 대기열에 넣음
+     */
+    @TransactionalEventListener
+    public void handle(ProfilePhotoImportRequestedEvent event) {
+        request(event.userId(), event.photoUrl());
+    }
+
+    public void request(long userId, String photoUrl) {
+        if (!StringUtils.hasText(photoUrl)) {
+            return;
+        }
+        if (pending.putIfAbsent(userId, photoUrl) != null) {
+            record("DUPLICATE");
+            return;
+        }
+
+        submit(userId, photoUrl, 1);
+    }
+
+    private void submit(long userId, String photoUrl, int attempt) {
+        try {
+            executor.execute(() -> importPhoto(userId, photoUrl, attempt));
+        } catch (TaskRejectedException e) {
+            pending.remove(userId);
+            record("REJECTED");
+            log.warn("ProfilePhotoImporter.submit() queue is full: userId={}", userId);
+        }
+    }
+
+    private void importPhoto(long userId, String photoUrl, int attempt) {
+        try {
+            byte[] image = restTemplate.execute(photoUrl, HttpMethod.GET, null, this::readImage);
+            if (image == null || image.length == 0) {
+                throw new IllegalStateException("프로필 사진 응답이 비어 있습니다.");
+            }
+
+            String photoHash = photoService.store(image);
+            userRepository.updateProfilePhotoHashIfAbsent(userId, photoHash);
+
+            pending.remove(userId);
+            record("SUCCESS");
+        } catch (IllegalRequestException e) {
+            // 크기 초과, 이미지가 아닌 응답은 다시 내려받아도 같으므로 재시도하지 않음
+            reject(userId, e);
+        } catch (HttpClientErrorException e) {
+            // 404, 403 등 CDN의 4xx 응답도 다시 요청해도 같으므로 재시도하지 않음 (요청 제한인 429만 재시도)
+            if (e.getStatusCode().isSameCodeAs(TOO_MANY_REQUESTS)) {
+                retryOrGiveUp(userId, photoUrl, attempt, e);
+                return;
+            }
+            reject(userId, e);
+        } catch (RuntimeException e) {
+            retryOrGiveUp(userId, photoUrl, attempt, e);
+        }
+    }
+
+    /**
+     * 응답 본문을 최대 파일 크기까지만 읽는 메서드
+     * Content-Type이 이미지가 아니거나, Content-Length 또는 실제 본문이 최대 파일 크기를 넘으면 본문을 메모리에 더 모으지 않고 거절함
+     */
+    private byte[] readImage(ClientHttpResponse response) throws IOException {
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType == null || !"image".equals(contentType.getType())) {
+            throw new IllegalRequestException("프로필 사진 응답이 이미지가 아닙니다: " + contentType);
+        }
+
+        long maximumBytes = maximumFileSize.toBytes();
+        if (response.getHeaders().getContentLength() > maximumBytes) {
+            throw new IllegalRequestException("프로필 사진은 " + maximumFileSize.toMegabytes() + "MB 이하여야 합니다.");
+        }
+
+        try (InputStream body = response.getBody()) {
+            byte[] image = body.readNBytes(Math.toIntExact(maximumBytes + 1));
+            if (image.length > maximumBytes) {
+                throw new IllegalRequestException("프로필 사진은 " + maximumFileSize.toMegabytes() + "MB 이하여야 합니다.");
+            }
+
+            return image;
+        }
+    }
+
+    private void reject(long userId, RuntimeException e) {
+        pending.remove(userId);
+        record("INVALID");
+        log.warn("ProfilePhotoImporter.importPhoto() rejected photo: userId={}, cause={}", userId, e.getMessage());
+    }
+
+    private void retryOrGiveUp(long userId, String photoUrl, int attempt, RuntimeException e) {
+        if (attempt >= maxAttempts) {
+            pending.remove(userId);
+            record("FAILED");
+            log.warn("ProfilePhotoImporter.importPhoto() gave up after {} attempts: userId={}, cause={}", attempt, userId, e.getMessage());
+            return;
+        }
+
+        Duration delay = retryBackoff.multipliedBy(1L << (attempt - 1));
+        record("RETRIED");
+        try {
+            taskScheduler.schedule(() -> submit(userId, photoUrl, attempt + 1), Instant.now().plus(delay));
+        } catch (TaskRejectedException rejected) {
+            pending.remove(userId);
+            record("REJECTED");
+            log.warn("ProfilePhotoImporter.retryOrGiveUp() scheduler rejected retry: userId={}", userId);
+        }
+    }
+
+    private void record(String outcome) {
+        Counter.builder(METRIC_NAME)
+                .description("소셜 회원가입 프로필 사진 가져오기 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+}
@@ -6,11 +6,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import success.planfit.entity.user.PlanfitUser;
 import success.planfit.entity.user.User;
-import success.planfit.global.exception.IllegalRequestException;
-import success.planfit.global.jwt.TokenProvider;
-import success.planfit.global.jwt.TokenType;
-import success.planfit.global.jwt.dto.AccessTokenResponseDto;
-import success.planfit.global.photo.PhotoProvider;
+import success.planfit.global.jwt.RefreshTokenService;
+import success.planfit.global.photo.PhotoRenderer;
+import success.planfit.global.photo.PhotoService;
 import success.planfit.repository.UserRepository;
 import success.planfit.user.dto.UserUpdateDto;
 
@@ -23,7 +21,9 @@ public class UserService {
     private static final Supplier<EntityNotFoundException> USER_NOT_FOUND_EXCEPTION = () -> new EntityNotFoundException("해당 ID로 회원을 조회할 수 없습니다.");
 
     private final UserRepository userRepository;
-    private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final PhotoService photoService;
+    private final PhotoRenderer photoRenderer;
 
     @Transactional(readOnly = true)
     public UserUpdateDto getUserInfo(long userId) {
@@ -36,8 +36,8 @@ public class UserService {
     public void updateUserInfo(long userId, UserUpdateDto userDto) {
         User user = findUserById(userId);
 
-        if (userDto.getProfilePhoto() != null) {
-            user.setProfilePhoto(PhotoProvider.decode(userDto.getProfilePhoto()));
+        if (userDto.getProfilePhoto() != null && !isCurrentProfilePhoto(user, userDto.getProfilePhoto())) {
+            user.setProfilePhotoHash(photoService.storeEncoded(userDto.getProfilePhoto()));
         }
         if (userDto.getBirthOfDate() != null) {
             user.setBirthOfDate(userDto.getBirthOfDate());
@@ -63,52 +63,27 @@ public class UserService {
 
     @Transactional
     public void invalidateRefreshToken(long userId) {
-        User user = findUserById(userId);
-        user.getRefreshToken().setTokenValue(null);
+        refreshTokenService.revokeAll(userId);
     }
 
     @Transactional
     public void deleteUser(long userId) {
         User user = findUserById(userId);
 
+        refreshTokenService.deleteAll(userId);
         userRepository.delete(user);
     }
 
-    @Transactional(readOnly = true)
-    public AccessTokenResponseDto reissueAccessToken(String refreshToken) {
-        if (!tokenProvider.validateToken(refreshToken, TokenType.REFRESH)) {
-            throw new IllegalRequestException("부적절한 리프레쉬 토큰입니다.");
-        }
-
-        long userId = findUserIdFromToken(refreshToken);
-        User user = findUserById(userId);
-
-        if (!isEqualWithSavedToken(user, refreshToken)) {
-            throw new IllegalRequestException("만료된 리프레쉬 토큰입니다.");
-        }
-
-        return AccessTokenResponseDto.builder()
-                .accessToken(tokenProvider.createToken(user, TokenType.ACCESS))
-                .build();
-    }
-
     private User findUserById(long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(USER_NOT_FOUND_EXCEPTION);
     }
 
-    private long findUserIdFromToken(String token) {
-        String userId = tokenProvider.parseClaims(token)
-                .getSubject();
-
-        return Long.parseLong(userId);
-    }
-
-    private boolean isEqualWithSavedToken(User user, String refreshTokenValue) {
-        String actualValue = user.getRefreshToken()
-                .getTokenValue();
-
-        return refreshTokenValue.equals(actualValue);
+    /**
+     * 조회 응답으로 받은 사진 값을 그대로 다시 보낸 경우, 사진이 바뀌지 않은 것으로 판단하기 위한 메서드
+     */
+    private boolean isCurrentProfilePhoto(User user, String profilePhoto) {
+        return profilePhoto.equals(photoRenderer.render(user.getProfilePhotoHash()));
     }
 
 }
@@ -0,0 +1,150 @@
+package success.planfit.comment.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import success.planfit.entity.comment.Comment;
+import success.planfit.entity.post.Post;
+import success.planfit.entity.user.IdentityType;
+import success.planfit.entity.user.PlanfitUser;
+import success.planfit.entity.user.User;
+import success.planfit.fixture.CourseFixture;
+import success.planfit.repository.CommentRepository;
+import success.planfit.repository.PostRepository;
+import success.planfit.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 여러 유저가 같은 댓글에 동시에 좋아요/좋아요 취소를 요청해도 좋아요 수가 유실되지 않는지 검증
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고 직접 정리함
+ */
+@SpringBootTest
+class CommentLikeConcurrencyTest {
+
+    private static final int USER_COUNT = 32;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private CommentLikeService commentLikeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private User author;
+    private Post post;
+    private Comment comment;
+    private List<User> users;
+
+    @BeforeEach
+    void initialize() {
+        author = userRepository.save(createUser("author"));
+        post = Post.builder()
+                .course(CourseFixture.COURSE_A.createInstance())
+                .user(author)
+                .title("CONCURRENCY_TEST_TITLE")
+                .content("CONCURRENCY_TEST_CONTENT")
+                .isPublic(true)
+                .build();
+        comment = Comment.builder()
+                .user(author)
+                .content("CONCURRENCY_TEST_COMMENT")
+                .build();
+        post.addComment(comment);
+        postRepository.save(post);
+
+        users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(createUser(String.valueOf(i))));
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        userRepository.deleteAll(users);
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("동시에 좋아요와 좋아요 취소를 요청해도 좋아요 수가 정확히 집계된다")
+    void likeAndUnlikeConcurrently() throws Exception {
+        runConcurrently(userId -> commentLikeService.likeComment(userId, post.getId(), comment.getId()));
+
+        assertThat(findLikeCount()).isEqualTo(USER_COUNT);
+
+        runConcurrently(userId -> commentLikeService.unlikeComment(userId, post.getId(), comment.getId()));
+
+        assertThat(findLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 좋아요/좋아요 취소 요청이 동시에 반복되어도 한 번만 반영된다")
+    void likeAndUnlikeIdempotently() throws Exception {
+        long userId = users.getFirst().getId();
+
+        runConcurrently(ignored -> commentLikeService.likeComment(userId, post.getId(), comment.getId()));
+
+        assertThat(findLikeCount()).isEqualTo(1);
+
+        runConcurrently(ignored -> commentLikeService.unlikeComment(userId, post.getId(), comment.getId()));
+
+        assertThat(findLikeCount()).isZero();
+    }
+
+    private void runConcurrently(LongConsumer request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User user : users) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    request.accept(user.getId());
+                    return null;
+                }));
+            }
+
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long findLikeCount() {
+        return commentRepository.findById(comment.getId())
+                .orElseThrow()
+                .getLikeCount();
+    }
+
+    private PlanfitUser createUser(String suffix) {
+        return PlanfitUser.builder()
+                .loginId("comment_like_user_" + suffix)
+                .password("PASSWORD")
+                .name("COMMENT_LIKE_USER_" + suffix)
+                .phoneNumber("01000000000")
+                .birthOfDate(LocalDate.of(2000, 1, 1))
+                .identity(IdentityType.STUDENT)
+                .email("comment_like_" + suffix + "@email.com")
+                .build();
+    }
+
+}
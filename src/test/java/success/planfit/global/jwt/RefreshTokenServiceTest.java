@@ -0,0 +1,70 @@
+package success.planfit.global.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.jwt.dto.TokenResponseDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class RefreshTokenServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Test
+    @DisplayName("재발급하면 해당 회원의 Access 토큰과 새 Refresh 토큰을 반환한다")
+    void reissueRotatesRefreshToken() {
+        String refreshToken = refreshTokenService.issue(USER_ID);
+
+        TokenResponseDto responseDto = refreshTokenService.reissue(refreshToken);
+
+        assertThat(responseDto.refreshToken()).isNotEqualTo(refreshToken);
+        assertThat(tokenProvider.getAuthentication(responseDto.accessToken()).getName()).isEqualTo(String.valueOf(USER_ID));
+        assertThat(tokenProvider.validateToken(responseDto.refreshToken(), TokenType.REFRESH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 사용한 Refresh 토큰을 다시 사용하면 예외가 발생하고, 같은 로그인에서 발급된 토큰도 모두 폐기된다")
+    void reuseRevokesFamily() {
+        String refreshToken = refreshTokenService.issue(USER_ID);
+        String rotatedRefreshToken = refreshTokenService.reissue(refreshToken)
+                .refreshToken();
+
+        assertThatThrownBy(() -> refreshTokenService.reissue(refreshToken))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThatThrownBy(() -> refreshTokenService.reissue(rotatedRefreshToken))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 해당 회원의 Refresh 토큰으로 재발급할 수 없다")
+    void revokeAll() {
+        String refreshToken = refreshTokenService.issue(USER_ID);
+
+        refreshTokenService.revokeAll(USER_ID);
+
+        assertThatThrownBy(() -> refreshTokenService.reissue(refreshToken))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Access 토큰으로는 재발급할 수 없다")
+    void rejectAccessToken() {
+        String accessToken = tokenProvider.createToken(USER_ID, TokenType.ACCESS);
+
+        assertThatThrownBy(() -> refreshTokenService.reissue(accessToken))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+}
@@ -0,0 +1,94 @@
+package success.planfit.global.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import success.planfit.entity.user.User;
+import success.planfit.fixture.UserFixture;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString("planfit-token-provider-test-secret-key".getBytes());
+    private static final long VALIDITY_TIME = 60_000L;
+
+    private TokenProvider tokenProvider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(SECRET, VALIDITY_TIME, true, 100L, Duration.ofMinutes(5));
+        user = UserFixture.USER_A.createInstance();
+        ReflectionTestUtils.setField(user, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("유효한 액세스 토큰은 한 번의 검증으로 Authentication을 반환한다")
+    void authenticate() {
+        String token = tokenProvider.createToken(user, TokenType.ACCESS);
+
+        Optional<Authentication> authentication = tokenProvider.authenticate(token, TokenType.ACCESS);
+
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getName()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("인증 정보의 details에는 토큰의 subject, 타입, 만료 시각을 담은 VerifiedToken이 담긴다")
+    void authenticationDetails() {
+        String token = tokenProvider.createToken(user, TokenType.ACCESS);
+
+        Object firstDetails = tokenProvider.authenticate(token, TokenType.ACCESS).orElseThrow().getDetails();
+        Object cachedDetails = tokenProvider.authenticate(token, TokenType.ACCESS).orElseThrow().getDetails();
+
+        assertThat(firstDetails).isInstanceOfSatisfying(VerifiedToken.class, verifiedToken -> {
+            assertThat(verifiedToken.subject()).isEqualTo("1");
+            assertThat(verifiedToken.hasType(TokenType.ACCESS)).isTrue();
+            assertThat(verifiedToken.expiration()).isAfter(Instant.now());
+        });
+        assertThat(cachedDetails).isEqualTo(firstDetails);
+    }
+
+    @Test
+    @DisplayName("검증 캐시를 끄면 매번 서명을 검증해 인증한다")
+    void authenticateWithoutCache() {
+        TokenProvider uncachedTokenProvider = new TokenProvider(SECRET, VALIDITY_TIME, false, 100L, Duration.ofMinutes(5));
+        String token = uncachedTokenProvider.createToken(user, TokenType.ACCESS);
+        String tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(uncachedTokenProvider.authenticate(token, TokenType.ACCESS)).isPresent();
+        assertThat(uncachedTokenProvider.authenticate(token, TokenType.ACCESS)).isPresent();
+        assertThat(uncachedTokenProvider.authenticate(tamperedToken, TokenType.ACCESS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰이라도 타입이 다르면 인증하지 않는다")
+    void authenticateWithWrongType() {
+        String token = tokenProvider.createToken(user, TokenType.REFRESH);
+
+        assertThat(tokenProvider.validateToken(token, TokenType.REFRESH)).isTrue();
+        assertThat(tokenProvider.authenticate(token, TokenType.ACCESS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명이 변조되었거나 만료된 토큰은 인증하지 않는다")
+    void authenticateInvalidToken() {
+        String token = tokenProvider.createToken(user, TokenType.ACCESS);
+        String tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        TokenProvider expiredTokenProvider = new TokenProvider(SECRET, -1_000L, true, 100L, Duration.ofMinutes(5));
+        String expiredToken = expiredTokenProvider.createToken(user, TokenType.ACCESS);
+
+        assertThat(tokenProvider.authenticate(tamperedToken, TokenType.ACCESS)).isEmpty();
+        assertThat(tokenProvider.authenticate(expiredToken, TokenType.ACCESS)).isEmpty();
+        assertThat(tokenProvider.authenticate("not a token", TokenType.ACCESS)).isEmpty();
+    }
+
+}
@@ -0,0 +1,109 @@
+package success.planfit.global.photo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기존 사진 컬럼과 같은 형태의 임시 테이블로 LegacyPhotoMigration을 검증
+ * DDL은 트랜잭션으로 되돌릴 수 없으므로 테스트 트랜잭션을 사용하지 않고 직접 정리함
+ */
+@SpringBootTest
+class LegacyPhotoMigrationTest {
+
+    private static final LegacyPhotoMigration.LegacyPhotoColumn COLUMN =
+            new LegacyPhotoMigration.LegacyPhotoColumn("legacy_photo_test", "photo", "photo_hash");
+
+    @TempDir
+    Path root;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalPhotoStorage photoStorage;
+    private LegacyPhotoMigration legacyPhotoMigration;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("create table legacy_photo_test (id bigint auto_increment primary key, photo blob, photo_hash varchar(64))");
+
+        photoStorage = new LocalPhotoStorage(root);
+        legacyPhotoMigration = new LegacyPhotoMigration(
+                jdbcTemplate,
+                new PhotoService(photoStorage, DataSize.ofMegabytes(10), 6000),
+                photoStorage,
+                2
+        );
+    }
+
+    @AfterEach
+    void clear() {
+        jdbcTemplate.execute("drop table legacy_photo_test");
+    }
+
+    @Test
+    @DisplayName("기존 사진을 썸네일과 함께 사진 저장소로 옮기고 해시 컬럼을 채운다")
+    void migrate() throws IOException {
+        byte[] image = createImage();
+        byte[] notImage = "legacy-photo".getBytes(StandardCharsets.UTF_8);
+        insertPhoto(image);
+        insertPhoto(notImage);
+        insertPhoto(image);
+        insertPhoto(null);
+
+        long migrated = legacyPhotoMigration.migrate(COLUMN);
+
+        assertThat(migrated).isEqualTo(3);
+        assertThat(findHashes()).containsExactly(
+                PhotoProvider.hash(image),
+                PhotoProvider.hash(notImage),
+                PhotoProvider.hash(image),
+                null
+        );
+        assertThat(photoStorage.load(PhotoProvider.hash(image))).hasValue(image);
+        assertThat(photoStorage.existsVariant(PhotoProvider.hash(image), PhotoSize.SMALL)).isTrue();
+        assertThat(photoStorage.load(PhotoProvider.hash(notImage))).hasValue(notImage);
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 이미 옮긴 행은 건너뛴다")
+    void skipMigratedRows() throws IOException {
+        insertPhoto(createImage());
+        legacyPhotoMigration.migrate(COLUMN);
+
+        assertThat(legacyPhotoMigration.migrate(COLUMN)).isZero();
+    }
+
+    private void insertPhoto(byte[] photo) {
+        jdbcTemplate.update("insert into legacy_photo_test (photo) values (?)", (Object) photo);
+    }
+
+    private List<String> findHashes() {
+        return jdbcTemplate.queryForList("select photo_hash from legacy_photo_test order by id", String.class);
+    }
+
+    private static byte[] createImage() throws IOException {
+        BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+}
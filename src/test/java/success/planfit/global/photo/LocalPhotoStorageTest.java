@@ -0,0 +1,66 @@
+package success.planfit.global.photo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalPhotoStorageTest {
+
+    private static final byte[] PHOTO = "photo".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private LocalPhotoStorage photoStorage;
+
+    @BeforeEach
+    void setUp() {
+        photoStorage = new LocalPhotoStorage(root);
+    }
+
+    @Test
+    @DisplayName("저장한 사진을 반환된 해시로 다시 읽어온다")
+    void storeAndLoad() {
+        String hash = photoStorage.store(PHOTO);
+
+        assertThat(hash).isEqualTo(PhotoProvider.hash(PHOTO));
+        assertThat(photoStorage.load(hash)).hasValue(PHOTO);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 사진은 한 번만 저장된다")
+    void storeSameContentOnce() throws IOException {
+        photoStorage.store(PHOTO);
+        photoStorage.store(PHOTO);
+
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 해시를 조회하면 빈 값을 반환한다")
+    void loadNotExistHash() {
+        String hash = PhotoProvider.hash(PHOTO);
+
+        assertThat(photoStorage.load(hash)).isEmpty();
+        assertThat(photoStorage.exists(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해시 형식이 아닌 값을 전달하면 예외가 발생한다")
+    void ifUseIllegalHashThenThrowException() {
+        assertThatThrownBy(() -> photoStorage.load("../../etc/passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,134 @@
+package success.planfit.global.photo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import success.planfit.global.controller.PlanfitExceptionHandler;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class PhotoControllerTest {
+
+    @TempDir
+    Path root;
+
+    private LocalPhotoStorage photoStorage;
+    private MockMvc mockMvc;
+    private byte[] photo;
+    private String hash;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        photoStorage = new LocalPhotoStorage(root);
+        photo = createImage();
+        hash = new PhotoService(photoStorage, DataSize.ofMegabytes(10), 6000).store(photo);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new PhotoController(photoStorage, new PlanfitExceptionHandler()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("사진을 해시 ETag와 함께 반환하고, 같은 ETag로 다시 요청하면 304를 반환한다")
+    void notModifiedWhenETagMatches() throws Exception {
+        mockMvc.perform(get("/photo/{hash}", hash))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+                .andExpect(content().bytes(photo));
+
+        mockMvc.perform(get("/photo/{hash}", hash)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + hash + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Range 헤더가 있으면 요청한 구간만 206으로 반환한다")
+    void partialContentWhenRangeRequested() throws Exception {
+        mockMvc.perform(get("/photo/{hash}", hash)
+                        .header(HttpHeaders.RANGE, "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/" + photo.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(photo, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("썸네일 크기를 지정하면 크기별 ETag로 썸네일을 반환한다")
+    void thumbnailWhenSizeRequested() throws Exception {
+        mockMvc.perform(get("/photo/{hash}", hash)
+                        .param("size", "SMALL"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "-" + PhotoSize.SMALL.getMaximumEdge() + "\""));
+    }
+
+    @Test
+    @DisplayName("썸네일이 없는 사진은 원본 ETag와 짧은 캐시 기간으로 원본을 반환한다")
+    void originalWithShortCacheWhenThumbnailIsMissing() throws Exception {
+        byte[] photoWithoutThumbnail = createImage();
+        photoWithoutThumbnail[photoWithoutThumbnail.length - 1] ^= 1;
+        String hashWithoutThumbnail = photoStorage.store(photoWithoutThumbnail);
+
+        mockMvc.perform(get("/photo/{hash}", hashWithoutThumbnail)
+                        .param("size", "SMALL"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hashWithoutThumbnail + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, public"))
+                .andExpect(content().bytes(photoWithoutThumbnail));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 크기를 지정하면 400을 반환한다")
+    void badRequestWhenSizeIsUnknown() throws Exception {
+        mockMvc.perform(get("/photo/{hash}", hash)
+                        .param("size", "HUGE"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("ETag가 일치해도 형식이 올바르지 않거나 저장되지 않은 해시이면 304를 반환하지 않는다")
+    void validateHashBeforeCheckingETag() throws Exception {
+        String missingHash = "0".repeat(64);
+
+        mockMvc.perform(get("/photo/{hash}", "not-a-hash")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"not-a-hash\""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/photo/{hash}", missingHash)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + missingHash + "\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 해시로 요청하면 400을 반환한다")
+    void badRequestWhenHashIsMalformed() throws Exception {
+        mockMvc.perform(get("/photo/{hash}", "not-a-hash"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 해시로 요청하면 404를 반환한다")
+    void notFoundWhenPhotoDoesNotExist() throws Exception {
+        mockMvc.perform(get("/photo/{hash}", "0".repeat(64)))
+                .andExpect(status().isNotFound());
+    }
+
+    private static byte[] createImage() throws IOException {
+        BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+}
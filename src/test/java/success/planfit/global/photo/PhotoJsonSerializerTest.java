@@ -0,0 +1,104 @@
+package success.planfit.global.photo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.SpringHandlerInstantiator;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PhotoJsonSerializerTest {
+
+    private static final String BASE_URL = "https://planfit.test";
+    private static final byte[] PHOTO = "photo".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_PHOTO = "other-photo".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] THUMBNAIL = "thumbnail".getBytes(StandardCharsets.UTF_8);
+    private static final String PHOTO_HASH = PhotoProvider.hash(PHOTO);
+    private static final String OTHER_PHOTO_HASH = PhotoProvider.hash(OTHER_PHOTO);
+
+    @TempDir
+    Path root;
+
+    private LocalPhotoStorage photoStorage;
+
+    @BeforeEach
+    void setUp() {
+        photoStorage = new LocalPhotoStorage(root);
+        photoStorage.store(PHOTO);
+        photoStorage.store(OTHER_PHOTO);
+        photoStorage.storeVariant(PHOTO_HASH, PhotoSize.SMALL, THUMBNAIL);
+    }
+
+    @Test
+    @DisplayName("사진 해시를 주입받은 PhotoRenderer가 만든 원본/썸네일 조회 URL로 직렬화한다")
+    void serializePhotoUrls() {
+        ObjectMapper objectMapper = createObjectMapper(new PhotoRenderer(photoStorage, BASE_URL, false));
+
+        JsonNode json = objectMapper.valueToTree(new PhotoResponse(PHOTO_HASH, PHOTO_HASH, List.of(PHOTO_HASH, OTHER_PHOTO_HASH)));
+
+        assertThat(json.get("photo").asText()).isEqualTo(BASE_URL + "/photo/" + PHOTO_HASH);
+        assertThat(json.get("thumbnail").asText()).isEqualTo(BASE_URL + "/photo/" + PHOTO_HASH + "?size=SMALL");
+        assertThat(json.get("photos")).extracting(JsonNode::asText)
+                .containsExactly(BASE_URL + "/photo/" + PHOTO_HASH, BASE_URL + "/photo/" + OTHER_PHOTO_HASH);
+    }
+
+    @Test
+    @DisplayName("사진이 없는 필드는 null로 직렬화한다")
+    void serializeNullPhotos() {
+        ObjectMapper objectMapper = createObjectMapper(new PhotoRenderer(photoStorage, BASE_URL, false));
+
+        JsonNode json = objectMapper.valueToTree(new PhotoResponse(null, null, Arrays.asList(PHOTO_HASH, null)));
+
+        assertThat(json.get("photo").isNull()).isTrue();
+        assertThat(json.get("thumbnail").isNull()).isTrue();
+        assertThat(json.get("photos").get(1).isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("inline-base64 설정이 켜져 있으면 사진 URL 대신 저장된 사진(썸네일이 있으면 썸네일)을 Base64로 직렬화한다")
+    void serializeInlineBase64Photos() {
+        ObjectMapper objectMapper = createObjectMapper(new PhotoRenderer(photoStorage, BASE_URL, true));
+
+        JsonNode json = objectMapper.valueToTree(new PhotoResponse(PHOTO_HASH, OTHER_PHOTO_HASH, List.of(PHOTO_HASH, OTHER_PHOTO_HASH)));
+
+        assertThat(json.get("photo").asText()).isEqualTo(PhotoProvider.encode(PHOTO));
+        assertThat(json.get("thumbnail").asText()).isEqualTo(PhotoProvider.encode(OTHER_PHOTO));
+        assertThat(json.get("photos")).extracting(JsonNode::asText)
+                .containsExactly(PhotoProvider.encode(PHOTO), PhotoProvider.encode(OTHER_PHOTO));
+        assertThat(objectMapper.valueToTree(new PhotoResponse(null, PHOTO_HASH, List.of())).get("thumbnail").asText())
+                .isEqualTo(PhotoProvider.encode(THUMBNAIL));
+    }
+
+    /**
+     * 애플리케이션의 ObjectMapper처럼 Serializer를 빈으로 생성하도록 설정한 ObjectMapper를 반환하는 메서드
+     */
+    static ObjectMapper createObjectMapper(PhotoRenderer photoRenderer) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("photoRenderer", photoRenderer);
+
+        return Jackson2ObjectMapperBuilder.json()
+                .handlerInstantiator(new SpringHandlerInstantiator(beanFactory))
+                .build();
+    }
+
+    record PhotoResponse(
+            @PhotoJson
+            String photo,
+            @PhotoJson(size = PhotoSize.SMALL)
+            String thumbnail,
+            @PhotoJson
+            List<String> photos
+    ) {
+    }
+
+}
@@ -0,0 +1,96 @@
+package success.planfit.global.photo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import success.planfit.global.exception.IllegalRequestException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PhotoServiceTest {
+
+    private static final DataSize MAXIMUM_FILE_SIZE = DataSize.ofKilobytes(64);
+    private static final int MAXIMUM_IMAGE_EDGE = 1024;
+
+    @TempDir
+    Path root;
+
+    private LocalPhotoStorage photoStorage;
+    private PhotoService photoService;
+
+    @BeforeEach
+    void setUp() {
+        photoStorage = new LocalPhotoStorage(root);
+        photoService = new PhotoService(photoStorage, MAXIMUM_FILE_SIZE, MAXIMUM_IMAGE_EDGE);
+    }
+
+    @Test
+    @DisplayName("사진과 썸네일을 저장하고 내용 해시를 반환한다")
+    void store() throws IOException {
+        byte[] photo = createImage(MAXIMUM_IMAGE_EDGE, 512);
+
+        String hash = photoService.store(photo);
+
+        assertThat(hash).isEqualTo(PhotoProvider.hash(photo));
+        assertThat(photoStorage.exists(hash)).isTrue();
+        for (PhotoSize size : PhotoSize.values()) {
+            assertThat(photoStorage.existsVariant(hash, size)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("파일 크기 제한을 넘는 사진은 저장하지 않고 거절한다")
+    void rejectOversizedFile() {
+        byte[] photo = new byte[(int) MAXIMUM_FILE_SIZE.toBytes() + 1];
+
+        assertThatThrownBy(() -> photoService.store(photo))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThatThrownBy(() -> photoService.storeEncoded(PhotoProvider.encode(photo)))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThat(photoStorage.exists(PhotoProvider.hash(photo))).isFalse();
+    }
+
+    @Test
+    @DisplayName("가로나 세로가 제한을 넘는 이미지는 원본도 저장하지 않고 거절한다")
+    void rejectOversizedImage() throws IOException {
+        byte[] photo = createImage(MAXIMUM_IMAGE_EDGE + 1, 1);
+
+        assertThatThrownBy(() -> photoService.store(photo))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThat(photoStorage.exists(PhotoProvider.hash(photo))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미지로 해석할 수 없는 사진(이미지가 아니거나 잘린 파일)은 원본도 저장하지 않고 거절한다")
+    void rejectUndecodablePhoto() throws IOException {
+        byte[] notImage = "photo".getBytes(StandardCharsets.UTF_8);
+        byte[] image = createImage(MAXIMUM_IMAGE_EDGE, 512);
+        byte[] truncatedImage = Arrays.copyOf(image, image.length / 2);
+
+        assertThatThrownBy(() -> photoService.store(notImage))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThatThrownBy(() -> photoService.store(truncatedImage))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThat(photoStorage.exists(PhotoProvider.hash(notImage))).isFalse();
+        assertThat(photoStorage.exists(PhotoProvider.hash(truncatedImage))).isFalse();
+    }
+
+    private static byte[] createImage(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+}
@@ -0,0 +1,75 @@
+package success.planfit.global.photo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import success.planfit.global.exception.IllegalRequestException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ThumbnailGeneratorTest {
+
+    private static final int MAXIMUM_IMAGE_EDGE = 4096;
+
+    @Test
+    @DisplayName("비율을 유지한 채 긴 변을 각 크기에 맞춘 썸네일을 생성한다")
+    void generate() throws IOException {
+        byte[] photo = createImage(2048, 1024);
+
+        Map<PhotoSize, byte[]> thumbnails = ThumbnailGenerator.generate(photo, MAXIMUM_IMAGE_EDGE);
+
+        assertThat(thumbnails).containsOnlyKeys(PhotoSize.values());
+        for (PhotoSize size : PhotoSize.values()) {
+            BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(thumbnails.get(size)));
+
+            assertThat(thumbnail.getWidth()).isEqualTo(size.getMaximumEdge());
+            assertThat(thumbnail.getHeight()).isEqualTo(size.getMaximumEdge() / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("원본이 썸네일 크기보다 작으면 원본을 그대로 사용한다")
+    void keepSmallOriginal() throws IOException {
+        byte[] photo = createImage(100, 50);
+
+        Map<PhotoSize, byte[]> thumbnails = ThumbnailGenerator.generate(photo, MAXIMUM_IMAGE_EDGE);
+
+        assertThat(thumbnails.get(PhotoSize.MEDIUM)).isSameAs(photo);
+        assertThat(thumbnails.get(PhotoSize.LARGE)).isSameAs(photo);
+        assertThat(thumbnails.get(PhotoSize.SMALL)).isNotSameAs(photo);
+    }
+
+    @Test
+    @DisplayName("이미지로 해석할 수 없는 데이터는 거절한다")
+    void rejectNotImage() {
+        byte[] photo = "photo".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> ThumbnailGenerator.generate(photo, MAXIMUM_IMAGE_EDGE))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+    @Test
+    @DisplayName("가로나 세로가 제한을 넘는 이미지는 픽셀을 읽기 전에 거절한다")
+    void rejectOversizedImage() throws IOException {
+        byte[] photo = createImage(MAXIMUM_IMAGE_EDGE + 1, 1);
+
+        assertThatThrownBy(() -> ThumbnailGenerator.generate(photo, MAXIMUM_IMAGE_EDGE))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+    private byte[] createImage(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+}
@@ -0,0 +1,120 @@
+package success.planfit.post.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import success.planfit.post.dto.response.PostFeedDto;
+import success.planfit.post.event.PostActivityEvent;
+import success.planfit.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class PopularPostRankingTest {
+
+    private PostRepository postRepository;
+    private PopularPostRanking popularPostRanking;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findEngagementsCreatedAfter(any())).thenReturn(List.of());
+        when(postRepository.findFeedByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            return postIds.stream()
+                    .map(postId -> new PostFeedDto(postId, "title", "user", null, null, 0L, 0L, LocalDateTime.now()))
+                    .toList();
+        });
+
+        popularPostRanking = new PopularPostRanking(postRepository, 2, Duration.ofDays(7), 1.5, 2.0);
+    }
+
+    @Test
+    @DisplayName("좋아요와 댓글 이벤트를 반영해 점수가 높은 순으로 상위 K개를 유지한다")
+    void rankByEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        like(1L, now, 1);
+        like(2L, now, 3);
+        like(3L, now, 2);
+        publish(3L, now, PostActivityEvent.Type.COMMENTED);
+
+        popularPostRanking.rerank();
+
+        assertThat(postIds(popularPostRanking.getRanking(10))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 같으면 오래된 포스트의 점수가 더 낮다")
+    void decayByAge() {
+        LocalDateTime now = LocalDateTime.now();
+        like(1L, now.minusDays(2), 5);
+        like(2L, now.minusHours(1), 5);
+
+        popularPostRanking.rerank();
+
+        assertThat(postIds(popularPostRanking.getRanking(10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제되었거나 집계 기간이 지난 포스트는 랭킹에서 제외된다")
+    void excludeDeletedAndExpiredPost() {
+        LocalDateTime now = LocalDateTime.now();
+        like(1L, now, 3);
+        like(2L, now.minusDays(8), 10);
+        publish(1L, now, PostActivityEvent.Type.DELETED);
+
+        popularPostRanking.rerank();
+
+        assertThat(popularPostRanking.getRanking(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카운트와 순위가 그대로이면 목록을 다시 조회하지 않는다")
+    void skipRerankWithoutChange() {
+        like(1L, LocalDateTime.now(), 1);
+
+        popularPostRanking.rerank();
+        popularPostRanking.rerank();
+
+        verify(postRepository, times(1)).findFeedByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("새 활동이 없어도 주기마다 다시 계산해 집계 기간이 지난 포스트를 제외한다")
+    void rerankWithoutActivity() throws InterruptedException {
+        popularPostRanking = new PopularPostRanking(postRepository, 2, Duration.ofMillis(500), 1.5, 2.0);
+        like(1L, LocalDateTime.now(), 1);
+
+        popularPostRanking.rerank();
+        assertThat(postIds(popularPostRanking.getRanking(10))).containsExactly(1L);
+
+        Thread.sleep(600);
+        popularPostRanking.rerank();
+
+        assertThat(popularPostRanking.getRanking(10)).isEmpty();
+    }
+
+    private void like(long postId, LocalDateTime createdAt, int count) {
+        for (int i = 0; i < count; i++) {
+            publish(postId, createdAt, PostActivityEvent.Type.LIKED);
+        }
+    }
+
+    private void publish(long postId, LocalDateTime createdAt, PostActivityEvent.Type type) {
+        popularPostRanking.handle(new PostActivityEvent(postId, createdAt, type));
+    }
+
+    private List<Long> postIds(List<PostFeedDto> postFeedDtos) {
+        return postFeedDtos.stream()
+                .map(PostFeedDto::getPostId)
+                .toList();
+    }
+
+}
@@ -0,0 +1,45 @@
+package success.planfit.post.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.post.dto.request.PostSortCriteria;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostFeedCursorTest {
+
+    @Test
+    @DisplayName("최신순 커서를 인코딩한 뒤 다시 해석하면 같은 위치를 가리킨다")
+    void encodeAndDecodeLatest() {
+        PostFeedCursor cursor = new PostFeedCursor(PostSortCriteria.LATEST, LocalDateTime.of(2024, 11, 1, 12, 30, 15, 123000000), 0L, 42L);
+
+        PostFeedCursor decoded = PostFeedCursor.decode(cursor.encode(), PostSortCriteria.LATEST);
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("좋아요순 커서를 인코딩한 뒤 다시 해석하면 같은 위치를 가리킨다")
+    void encodeAndDecodeLikes() {
+        PostFeedCursor cursor = new PostFeedCursor(PostSortCriteria.LIKES, null, 17L, 42L);
+
+        PostFeedCursor decoded = PostFeedCursor.decode(cursor.encode(), PostSortCriteria.LIKES);
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준으로 발급된 커서나 잘못된 커서는 예외가 발생한다")
+    void decodeInvalidCursor() {
+        String likesCursor = new PostFeedCursor(PostSortCriteria.LIKES, null, 17L, 42L).encode();
+
+        assertThatThrownBy(() -> PostFeedCursor.decode(likesCursor, PostSortCriteria.LATEST))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThatThrownBy(() -> PostFeedCursor.decode("not a cursor", PostSortCriteria.LATEST))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+}
@@ -0,0 +1,108 @@
+package success.planfit.post.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import success.planfit.entity.comment.Comment;
+import success.planfit.entity.post.Post;
+import success.planfit.entity.post.PostPhoto;
+import success.planfit.entity.user.User;
+import success.planfit.fixture.CourseFixture;
+import success.planfit.fixture.UserFixture;
+import success.planfit.post.dto.response.PostFeedDto;
+import success.planfit.repository.PostRepository;
+import success.planfit.repository.UserRepository;
+import success.planfit.util.TestUtil;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 포스트 목록 프로젝션(PostRepository.FEED_PROJECTION)이 대표 사진과 댓글 수를 올바르게 계산하는지 검증
+ */
+@SpringBootTest
+@Transactional
+class PostFeedProjectionTest {
+
+    private static final String FIRST_PHOTO_HASH = "c".repeat(64);
+    private static final String SECOND_PHOTO_HASH = "a".repeat(64);
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private TestUtil util;
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void initialize() {
+        user = userRepository.save(UserFixture.USER_A.createInstance());
+    }
+
+    @Test
+    @DisplayName("대표 사진은 가장 먼저 저장된 사진이고, 댓글 수는 포스트의 댓글 개수이다")
+    void titlePhotoAndCommentCount() {
+        Post post = createPost("FEED_TEST_TITLE");
+        post.addPostPhotos(List.of(createPostPhoto(FIRST_PHOTO_HASH), createPostPhoto(SECOND_PHOTO_HASH)));
+        post.addComment(createComment());
+        post.addComment(createComment());
+        postRepository.save(post);
+        util.clearEntityManager(em);
+
+        PostFeedDto feed = postRepository.findFeedByIdIn(List.of(post.getId())).getFirst();
+
+        assertThat(feed.getPostId()).isEqualTo(post.getId());
+        assertThat(feed.getTitle()).isEqualTo("FEED_TEST_TITLE");
+        assertThat(feed.getUsername()).isEqualTo(user.getName());
+        assertThat(feed.getTitlePhoto()).isEqualTo(FIRST_PHOTO_HASH);
+        assertThat(feed.getCommentCount()).isEqualTo(2);
+        assertThat(feed.getLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("사진과 댓글이 없는 포스트는 대표 사진이 없고 댓글 수가 0이다")
+    void postWithoutPhotosAndComments() {
+        Post post = postRepository.save(createPost("FEED_TEST_EMPTY_TITLE"));
+        util.clearEntityManager(em);
+
+        List<PostFeedDto> feeds = postRepository.findFeedByIdIn(List.of(post.getId()));
+
+        assertThat(feeds).hasSize(1);
+        assertThat(feeds.getFirst().getTitlePhoto()).isNull();
+        assertThat(feeds.getFirst().getCommentCount()).isZero();
+    }
+
+    private Post createPost(String title) {
+        return Post.builder()
+                .course(CourseFixture.COURSE_A.createInstance())
+                .user(user)
+                .title(title)
+                .content("FEED_TEST_CONTENT")
+                .isPublic(true)
+                .build();
+    }
+
+    private PostPhoto createPostPhoto(String photoHash) {
+        return PostPhoto.builder()
+                .photoHash(photoHash)
+                .build();
+    }
+
+    private Comment createComment() {
+        return Comment.builder()
+                .user(user)
+                .content("FEED_TEST_COMMENT")
+                .build();
+    }
+
+}
@@ -0,0 +1,182 @@
+package success.planfit.post.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import success.planfit.entity.post.Post;
+import success.planfit.entity.user.IdentityType;
+import success.planfit.entity.user.PlanfitUser;
+import success.planfit.entity.user.User;
+import success.planfit.fixture.CourseFixture;
+import success.planfit.post.dto.request.PostRequestDto;
+import success.planfit.repository.PostRepository;
+import success.planfit.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 여러 유저가 같은 포스트에 동시에 좋아요/좋아요 취소를 요청해도 좋아요 수가 유실되지 않는지 검증
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고 직접 정리함
+ */
+@SpringBootTest
+class PostLikeConcurrencyTest {
+
+    private static final int USER_COUNT = 32;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private PostLikeService postLikeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User author;
+    private Post post;
+    private List<User> users;
+
+    @BeforeEach
+    void initialize() {
+        author = userRepository.save(createUser("author"));
+        post = postRepository.save(Post.builder()
+                .course(CourseFixture.COURSE_A.createInstance())
+                .user(author)
+                .title("CONCURRENCY_TEST_TITLE")
+                .content("CONCURRENCY_TEST_CONTENT")
+                .isPublic(true)
+                .build());
+
+        users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(createUser(String.valueOf(i))));
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        userRepository.deleteAll(users);
+        userRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("동시에 좋아요와 좋아요 취소를 요청해도 좋아요 수가 정확히 집계된다")
+    void likeAndUnlikeConcurrently() throws Exception {
+        runConcurrently(userId -> postLikeService.likePost(userId, post.getId()));
+
+        assertThat(findPost().getLikeCount()).isEqualTo(USER_COUNT);
+
+        runConcurrently(userId -> postLikeService.unlikePost(userId, post.getId()));
+
+        assertThat(findPost().getLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 좋아요/좋아요 취소 요청이 동시에 반복되어도 한 번만 반영된다")
+    void likeAndUnlikeIdempotently() throws Exception {
+        long userId = users.getFirst().getId();
+
+        runConcurrently(ignored -> postLikeService.likePost(userId, post.getId()));
+
+        assertThat(findPost().getLikeCount()).isEqualTo(1);
+
+        runConcurrently(ignored -> postLikeService.unlikePost(userId, post.getId()));
+
+        assertThat(findPost().getLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저의 좋아요는 중복으로 무시되지 않고 예외가 발생한다")
+    void rejectLikeFromUnknownUser() {
+        assertThatThrownBy(() -> postLikeService.likePost(Long.MAX_VALUE, post.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(findPost().getLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 증가하기 전에 불러온 포스트의 다른 필드를 수정해도 좋아요 수가 유지된다")
+    void keepLikeCountWhenStalePostIsUpdated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Post stalePost = postRepository.findById(post.getId()).orElseThrow();
+
+            try {
+                runConcurrently(userId -> postLikeService.likePost(userId, post.getId()));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+
+            stalePost.update(createRequestDto("CONCURRENCY_TEST_NEW_TITLE"));
+        });
+
+        Post updatedPost = findPost();
+        assertThat(updatedPost.getTitle()).isEqualTo("CONCURRENCY_TEST_NEW_TITLE");
+        assertThat(updatedPost.getLikeCount()).isEqualTo(USER_COUNT);
+    }
+
+    private void runConcurrently(LongConsumer request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User user : users) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    request.accept(user.getId());
+                    return null;
+                }));
+            }
+
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Post findPost() {
+        return postRepository.findById(post.getId())
+                .orElseThrow();
+    }
+
+    private PostRequestDto createRequestDto(String title) {
+        PostRequestDto requestDto = new PostRequestDto();
+        ReflectionTestUtils.setField(requestDto, "title", title);
+        ReflectionTestUtils.setField(requestDto, "content", "CONCURRENCY_TEST_CONTENT");
+        ReflectionTestUtils.setField(requestDto, "isPublic", true);
+
+        return requestDto;
+    }
+
+    private PlanfitUser createUser(String suffix) {
+        return PlanfitUser.builder()
+                .loginId("post_like_user_" + suffix)
+                .password("PASSWORD")
+                .name("POST_LIKE_USER_" + suffix)
+                .phoneNumber("01000000000")
+                .birthOfDate(LocalDate.of(2000, 1, 1))
+                .identity(IdentityType.STUDENT)
+                .email("post_like_" + suffix + "@email.com")
+                .build();
+    }
+
+}
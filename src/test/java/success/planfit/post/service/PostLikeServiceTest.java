@@ -0,0 +1,121 @@
+package success.planfit.post.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import success.planfit.entity.post.Post;
+import success.planfit.entity.user.User;
+import success.planfit.fixture.CourseFixture;
+import success.planfit.fixture.UserFixture;
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.paging.KeysetPaging;
+import success.planfit.post.dto.response.PostPreviewDto;
+import success.planfit.repository.PostLikeRepository;
+import success.planfit.repository.PostRepository;
+import success.planfit.repository.UserRepository;
+import success.planfit.util.TestUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class PostLikeServiceTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private TestUtil util;
+
+    @Autowired
+    private PostLikeService postLikeService;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User userA;
+    private User userB;
+
+    @BeforeEach
+    void initialize() {
+        userA = userRepository.save(UserFixture.USER_A.createInstance());
+        userB = userRepository.save(UserFixture.USER_B.createInstance());
+    }
+
+    @Test
+    @DisplayName("한 유저가 좋아요를 취소해도 다른 유저의 좋아요는 남아 있다")
+    void unlikeKeepsOtherUsersLike() {
+        Post post = createPost(userA);
+        postLikeService.likePost(userA.getId(), post.getId());
+        postLikeService.likePost(userB.getId(), post.getId());
+
+        postLikeService.unlikePost(userA.getId(), post.getId());
+        util.clearEntityManager(em);
+
+        assertThat(postLikeRepository.findByUserIdAndPostId(userA.getId(), post.getId())).isEmpty();
+        assertThat(postLikeRepository.findByUserIdAndPostId(userB.getId(), post.getId())).isPresent();
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요한 포스트를 최근에 좋아요한 순으로 조회하고, 커서를 전달하면 해당 좋아요 다음부터 조회한다")
+    void getLikedPostsWithCursor() {
+        Post first = createPost(userB);
+        Post second = createPost(userB);
+        Post third = createPost(userB);
+        postLikeService.likePost(userA.getId(), first.getId());
+        postLikeService.likePost(userA.getId(), second.getId());
+        postLikeService.likePost(userA.getId(), third.getId());
+        postLikeService.likePost(userB.getId(), first.getId());
+        util.clearEntityManager(em);
+
+        List<PostPreviewDto> firstPage = postLikeService.getLikedPosts(userA.getId(), null, null, 2);
+        PostPreviewDto lastOfFirstPage = firstPage.getLast();
+        List<PostPreviewDto> secondPage = postLikeService.getLikedPosts(userA.getId(), lastOfFirstPage.getLikedAt(), lastOfFirstPage.getLikeId(), 2);
+
+        assertThat(firstPage).extracting(PostPreviewDto::getPostId)
+                .containsExactly(third.getId(), second.getId());
+        assertThat(secondPage).extracting(PostPreviewDto::getPostId)
+                .containsExactly(first.getId());
+        assertThat(secondPage.getFirst().getUsername()).isEqualTo(userB.getName());
+    }
+
+    @ParameterizedTest
+    @DisplayName("허용 범위를 벗어난 페이지 크기를 전달하면 예외가 발생한다")
+    @ValueSource(ints = {0, KeysetPaging.MAXIMUM_PAGE_SIZE + 1})
+    void getLikedPostsWithInvalidPageSize(int size) {
+        assertThatThrownBy(() -> postLikeService.getLikedPosts(userA.getId(), null, null, size))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+    @Test
+    @DisplayName("커서의 좋아요 시각과 ID 중 하나만 전달하면 예외가 발생한다")
+    void getLikedPostsWithPartialCursor() {
+        assertThatThrownBy(() -> postLikeService.getLikedPosts(userA.getId(), LocalDateTime.now(), null, 10))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThatThrownBy(() -> postLikeService.getLikedPosts(userA.getId(), null, 1L, 10))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+    private Post createPost(User author) {
+        return postRepository.save(Post.builder()
+                .course(CourseFixture.COURSE_A.createInstance())
+                .user(author)
+                .title("LIKE_TEST_TITLE")
+                .content("LIKE_TEST_CONTENT")
+                .isPublic(true)
+                .build());
+    }
+
+}
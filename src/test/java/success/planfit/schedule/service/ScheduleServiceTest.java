@@ -53,6 +53,8 @@ class ScheduleServiceTest {
     @Autowired
     private ScheduleService scheduleService;
     @Autowired
+    private SharedScheduleCache sharedScheduleCache;
+    @Autowired
     private UserRepository userRepository;
     @Autowired
     private SpaceDetailRepository spaceDetailRepository;
@@ -99,6 +101,7 @@ class ScheduleServiceTest {
     @AfterEach
     void clearEntityManager() {
         util.clearEntityManager(em);
+        sharedScheduleCache.clear();
     }
 
     @Nested
@@ -178,6 +181,26 @@ class ScheduleServiceTest {
                     .isInstanceOf(EntityNotFoundException.class);
         }
 
+        @Test
+        @DisplayName("존재하지 않는 장소 식별자가 포함되면 누락된 식별자를 모두 담아 예외가 발생한다")
+        void ifUseNotExistSpaceIdentifiersThenThrowExceptionWithAllIdentifiers() {
+            ScheduleRequestDto requestDto = ScheduleRequestDto.builder()
+                    .title(scheduleRequestDto.getTitle())
+                    .date(scheduleRequestDto.getDate())
+                    .startTime(scheduleRequestDto.getStartTime())
+                    .content(scheduleRequestDto.getContent())
+                    .course(new CourseRequestDto("LOCATION", List.of(
+                            new SpaceRequestDto("NOT_EXIST_IDENTIFIER_A"),
+                            new SpaceRequestDto("NOT_EXIST_IDENTIFIER_B")
+                    )))
+                    .build();
+
+            assertThatThrownBy(() -> scheduleService.registerSchedule(vanillaUser.getId(), requestDto))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .hasMessageContaining("NOT_EXIST_IDENTIFIER_A")
+                    .hasMessageContaining("NOT_EXIST_IDENTIFIER_B");
+        }
+
         private List<Space> getSpacesSortedBySequence(List<Space> spaces) {
             return spaces.stream()
                     .sorted(Comparator.comparingInt(Space::getSequence))
@@ -266,6 +289,32 @@ class ScheduleServiceTest {
             assertThat(pastScheduleResponseDtos).isEmpty();
         }
 
+        @Test
+        @DisplayName("커서를 전달하면 해당 일정 다음부터 (날짜, ID) 내림차순으로 조회한다")
+        void findPastSchedulesWithCursor() {
+            int pastScheduleAmount = 5;
+            int pageSize = 2;
+            for (int i = 0; i < pastScheduleAmount; i++) {
+                registerPastSchedule();
+                registerUpcomingSchedule();
+            }
+
+            List<ScheduleTitleInfoResponseDto> firstPage = scheduleService.findPastSchedules(vanillaUser.getId(), LocalDate.now(), null, null, pageSize);
+            ScheduleTitleInfoResponseDto lastOfFirstPage = firstPage.get(firstPage.size() - 1);
+            List<ScheduleTitleInfoResponseDto> secondPage = scheduleService.findPastSchedules(vanillaUser.getId(), LocalDate.now(), lastOfFirstPage.getDate(), lastOfFirstPage.getScheduleId(), pageSize);
+
+            assertThat(firstPage).hasSize(pageSize);
+            assertThat(secondPage).hasSize(pageSize);
+            assertThat(secondPage.get(0).getScheduleId()).isLessThan(lastOfFirstPage.getScheduleId());
+        }
+
+        @Test
+        @DisplayName("허용 범위를 벗어난 페이지 크기를 전달하면 예외가 발생한다")
+        void ifUseInvalidPageSizeThenThrowException() {
+            assertThatThrownBy(() -> scheduleService.findPastSchedules(vanillaUser.getId(), LocalDate.now(), null, null, 0))
+                    .isInstanceOf(IllegalRequestException.class);
+        }
+
         @Test
         @DisplayName("존재하지 않는 회원의 ID를 전달하면 예외가 발생한다")
         void ifUseNotExistUserIdThenThrowException() {
@@ -524,6 +573,45 @@ class ScheduleServiceTest {
                     .isInstanceOf(EntityNotFoundException.class);
         }
 
+        @Test
+        @DisplayName("같은 공유 시리얼로 다시 조회하면 캐시된 일정 정보를 반환한다")
+        void returnCachedScheduleWhenFindAgain() {
+            scheduleA.setShareSerial(DEFAULT_SHARE_SERIAL);
+            long hitCount = sharedScheduleCache.stats().hitCount();
+
+            ScheduleResponseDto firstResponseDto = scheduleService.findByShareSerial(DEFAULT_SHARE_SERIAL);
+            ScheduleResponseDto secondResponseDto = scheduleService.findByShareSerial(DEFAULT_SHARE_SERIAL);
+
+            assertThat(secondResponseDto).isSameAs(firstResponseDto);
+            assertThat(sharedScheduleCache.stats().hitCount()).isEqualTo(hitCount + 1);
+        }
+
+        @Test
+        @DisplayName("공유된 일정이 수정되면 캐시를 무효화하고 수정된 정보를 반환한다")
+        void returnUpdatedScheduleAfterUpdate() {
+            String shareSerial = scheduleService.createShareSerial(userA.getId(), scheduleA.getId())
+                    .shareSerial();
+            scheduleService.findByShareSerial(shareSerial);
+
+            scheduleService.update(userA.getId(), scheduleA.getId(), scheduleRequestDto);
+            ScheduleResponseDto scheduleResponseDto = scheduleService.findByShareSerial(shareSerial);
+
+            assertThat(scheduleResponseDto.getTitle()).isEqualTo(scheduleRequestDto.getTitle());
+        }
+
+        @Test
+        @DisplayName("공유 시리얼이 새로 생성되면 기존 시리얼로는 더 이상 조회할 수 없다")
+        void ifShareSerialRegeneratedThenOldSerialNotFound() {
+            String oldShareSerial = scheduleService.createShareSerial(userA.getId(), scheduleA.getId())
+                    .shareSerial();
+            scheduleService.findByShareSerial(oldShareSerial);
+
+            scheduleService.createShareSerial(userA.getId(), scheduleA.getId());
+
+            assertThatThrownBy(() -> scheduleService.findByShareSerial(oldShareSerial))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+
     }
 
     private void saveEntities(User user, List<SpaceDetail> spaceDetails) {
@@ -0,0 +1,166 @@
+package success.planfit.space.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import success.planfit.course.dto.SpaceDetailInfoDto;
+import success.planfit.global.exception.ExternalApiException;
+import success.planfit.global.exception.ServiceOverloadedException;
+import success.planfit.global.http.HttpClientConfig;
+import success.planfit.space.dto.request.SpaceDetailRequestDto;
+import success.planfit.util.StubHttpServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static success.planfit.util.StubHttpServer.respondJson;
+import static success.planfit.util.StubHttpServer.sleep;
+
+class AiRecommendationClientTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+    private static final long SLOW_RESPONSE_MILLIS = 2_000;
+    private static final long DELAYED_RESPONSE_MILLIS = 150;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private StubHttpServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+    private AiRecommendationClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = StubHttpServer.start()
+                .handle("/fast", exchange -> respondJson(exchange, 200, "[]"))
+                .handle("/error", exchange -> respondJson(exchange, 500, "error"))
+                .handle("/delayed", exchange -> {
+                    sleep(DELAYED_RESPONSE_MILLIS);
+                    respondJson(exchange, 200, "[]");
+                })
+                .handle("/slow", exchange -> {
+                    sleep(SLOW_RESPONSE_MILLIS);
+                    respondJson(exchange, 200, "[]");
+                });
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop();
+    }
+
+    @Test
+    @DisplayName("AI 서버가 정상 응답하면 결과를 반환하고 SUCCESS로 기록한다")
+    void recommendWhenServerRespondsNormally() {
+        client = createClient("/fast");
+
+        List<SpaceDetailInfoDto> result = client.recommend(createRequestDto());
+
+        assertThat(result).isEmpty();
+        assertThat(countOf("SUCCESS")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("AI 서버가 제한 시간 안에 응답하지 않으면 기다리지 않고 타임아웃 예외가 발생한다")
+    void ifServerRespondsSlowlyThenThrowTimeoutException() {
+        client = createClient("/slow");
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.recommend(createRequestDto()))
+                .isInstanceOf(ExternalApiException.class)
+                .matches(e -> ((ExternalApiException) e).isTimeout());
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(elapsedMillis).isLessThan(SLOW_RESPONSE_MILLIS);
+        assertThat(countOf("TIMEOUT")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("AI 서버가 오류를 응답하면 예외가 발생하고 ERROR로 기록한다")
+    void ifServerRespondsErrorThenThrowException() {
+        client = createClient("/error");
+
+        assertThatThrownBy(() -> client.recommend(createRequestDto()))
+                .isInstanceOf(ExternalApiException.class)
+                .matches(e -> !((ExternalApiException) e).isTimeout());
+        assertThat(countOf("ERROR")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 한도에 이르면 앞선 호출이 끝날 때까지 기다렸다가 처리한다")
+    void ifConcurrencyLimitReachedThenWaitForPermit() throws InterruptedException {
+        client = createClient("/delayed", 1, Duration.ofSeconds(1));
+        Thread inFlight = startInFlightRequest();
+        sleep(50);
+
+        List<SpaceDetailInfoDto> result = client.recommend(createRequestDto());
+        inFlight.join();
+
+        assertThat(result).isEmpty();
+        assertThat(countOf("SUCCESS")).isEqualTo(2);
+        assertThat(countOf("REJECTED")).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 한도에 이른 채 대기 시간이 지나면 과부하 예외가 발생하고 REJECTED로 기록한다")
+    void ifConcurrencyLimitReachedUntilTimeoutThenReject() throws InterruptedException {
+        Duration acquireTimeout = Duration.ofMillis(100);
+        client = createClient("/slow", 1, acquireTimeout);
+        Thread inFlight = startInFlightRequest();
+        sleep(50);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.recommend(createRequestDto()))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .matches(e -> ((ServiceOverloadedException) e).getRetryAfter().equals(RETRY_AFTER));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        inFlight.join();
+
+        assertThat(elapsedMillis).isBetween(acquireTimeout.toMillis(), READ_TIMEOUT.toMillis());
+        assertThat(countOf("REJECTED")).isEqualTo(1);
+    }
+
+    private Thread startInFlightRequest() {
+        return Thread.ofVirtual().start(() -> {
+            try {
+                client.recommend(createRequestDto());
+            } catch (ExternalApiException ignored) {
+            }
+        });
+    }
+
+    private AiRecommendationClient createClient(String path) {
+        return createClient(path, 5, Duration.ofSeconds(1));
+    }
+
+    private AiRecommendationClient createClient(String path, int maxConcurrency, Duration acquireTimeout) {
+        return new AiRecommendationClient(
+                HttpClientConfig.createPooledRestTemplate(Duration.ofMillis(500), READ_TIMEOUT, Duration.ofMillis(500), maxConcurrency, Duration.ofSeconds(30)),
+                meterRegistry,
+                stubServer.urlOf(path),
+                maxConcurrency,
+                acquireTimeout,
+                RETRY_AFTER
+        );
+    }
+
+    private SpaceDetailRequestDto createRequestDto() {
+        SpaceDetailRequestDto requestDto = new SpaceDetailRequestDto();
+        ReflectionTestUtils.setField(requestDto, "latitude", 37.5);
+        ReflectionTestUtils.setField(requestDto, "longitude", 127.0);
+        ReflectionTestUtils.setField(requestDto, "spaceType", "CAFE");
+        ReflectionTestUtils.setField(requestDto, "radius", 1_000.0);
+
+        return requestDto;
+    }
+
+    private long countOf(String outcome) {
+        return meterRegistry.timer("external.ai.request", "outcome", outcome).count();
+    }
+
+}
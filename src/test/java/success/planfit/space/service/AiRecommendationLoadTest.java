@@ -0,0 +1,101 @@
+package success.planfit.space.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import success.planfit.global.async.AsyncConfig;
+import success.planfit.global.http.HttpClientConfig;
+import success.planfit.space.dto.request.SpaceDetailRequestDto;
+import success.planfit.util.StubHttpServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static success.planfit.util.StubHttpServer.respondJson;
+import static success.planfit.util.StubHttpServer.sleep;
+
+/**
+ * 느린 AI 서버를 가정하고, 제한된 플랫폼 스레드 풀과 가상 스레드 Executor의 동시 처리량을 비교하는 부하 테스트
+ * 실행 시간이 길어 기본 test 태스크에서는 제외되며, ./gradlew loadTest로 실행함
+ */
+@Tag("load")
+class AiRecommendationLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 200;
+    private static final int PLATFORM_THREADS = 20;
+    private static final long AI_LATENCY_MILLIS = 200;
+
+    private StubHttpServer stubServer;
+    private AiRecommendationClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = StubHttpServer.start()
+                .handle("/slow", exchange -> {
+                    sleep(AI_LATENCY_MILLIS);
+                    respondJson(exchange, 200, "[]");
+                });
+
+        client = new AiRecommendationClient(
+                HttpClientConfig.createPooledRestTemplate(Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(5), CONCURRENT_REQUESTS, Duration.ofSeconds(30)),
+                new SimpleMeterRegistry(),
+                stubServer.urlOf("/slow"),
+                CONCURRENT_REQUESTS,
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 Executor는 제한된 플랫폼 스레드 풀보다 느린 AI 호출을 훨씬 많이 동시에 처리한다")
+    void virtualThreadsHandleMoreConcurrentRecommendations() {
+        long platformElapsedMillis;
+        try (ExecutorService platformThreads = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            platformElapsedMillis = runConcurrently(platformThreads);
+        }
+        long virtualElapsedMillis = runConcurrently(AsyncConfig.createVirtualThreadExecutor("load-test-"));
+
+        long minimumPlatformMillis = (CONCURRENT_REQUESTS / PLATFORM_THREADS) * AI_LATENCY_MILLIS;
+        assertThat(platformElapsedMillis).isGreaterThanOrEqualTo(minimumPlatformMillis);
+        assertThat(virtualElapsedMillis).isLessThan(platformElapsedMillis / 2);
+    }
+
+    private long runConcurrently(Executor executor) {
+        SpaceDetailRequestDto requestDto = createRequestDto();
+        long startedAt = System.nanoTime();
+
+        List<CompletableFuture<?>> futures = IntStream.range(0, CONCURRENT_REQUESTS)
+                .<CompletableFuture<?>>mapToObj(i -> CompletableFuture.supplyAsync(() -> client.recommend(requestDto), executor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+
+    private SpaceDetailRequestDto createRequestDto() {
+        SpaceDetailRequestDto requestDto = new SpaceDetailRequestDto();
+        ReflectionTestUtils.setField(requestDto, "latitude", 37.5);
+        ReflectionTestUtils.setField(requestDto, "longitude", 127.0);
+        ReflectionTestUtils.setField(requestDto, "spaceType", "CAFE");
+        ReflectionTestUtils.setField(requestDto, "radius", 1_000.0);
+
+        return requestDto;
+    }
+
+}
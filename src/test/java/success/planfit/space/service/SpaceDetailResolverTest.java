@@ -0,0 +1,131 @@
+package success.planfit.space.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import success.planfit.entity.space.SpaceDetail;
+import success.planfit.entity.space.SpaceType;
+import success.planfit.repository.SpaceDetailRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class SpaceDetailResolverTest {
+
+    private static final String IDENTIFIER = "RESOLVER_TEST_PLACE_ID";
+    private static final String OTHER_IDENTIFIER = "RESOLVER_TEST_OTHER_PLACE_ID";
+
+    private SpaceDetailRepository spaceDetailRepository;
+    private SpaceDetailResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        spaceDetailRepository = mock(SpaceDetailRepository.class);
+        resolver = new SpaceDetailResolver(spaceDetailRepository);
+    }
+
+    @Test
+    @DisplayName("시작 시 불러온 식별자는 식별자 쿼리 없이 기본 키로 조회한다")
+    void resolveByIdAfterWarmUp() {
+        SpaceDetail spaceDetail = createSpaceDetail(1L, IDENTIFIER);
+        when(spaceDetailRepository.findAllIdentifiers()).thenReturn(List.of(identifierView(1L, IDENTIFIER)));
+        when(spaceDetailRepository.findById(1L)).thenReturn(Optional.of(spaceDetail));
+
+        resolver.warmUp();
+
+        assertThat(resolver.resolve(IDENTIFIER)).containsSame(spaceDetail);
+        verify(spaceDetailRepository, never()).findByGooglePlacesIdentifier(anyString());
+    }
+
+    @Test
+    @DisplayName("맵의 ID가 가리키는 행이 없으면 식별자로 다시 조회하고 맵을 새 ID로 고친다")
+    void repairEntryWhenRowIsMissing() {
+        SpaceDetail reinserted = createSpaceDetail(2L, IDENTIFIER);
+        resolver.register(createSpaceDetail(1L, IDENTIFIER));
+        when(spaceDetailRepository.findById(1L)).thenReturn(Optional.empty());
+        when(spaceDetailRepository.findByGooglePlacesIdentifier(IDENTIFIER)).thenReturn(Optional.of(reinserted));
+        when(spaceDetailRepository.findById(2L)).thenReturn(Optional.of(reinserted));
+
+        assertThat(resolver.resolve(IDENTIFIER)).containsSame(reinserted);
+        assertThat(resolver.resolve(IDENTIFIER)).containsSame(reinserted);
+
+        verify(spaceDetailRepository, times(1)).findByGooglePlacesIdentifier(IDENTIFIER);
+        verify(spaceDetailRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("맵의 ID가 다른 식별자의 행을 가리키면 그 행을 반환하지 않고 식별자로 다시 조회한다")
+    void ignoreRowWithDifferentIdentifier() {
+        SpaceDetail spaceDetail = createSpaceDetail(2L, IDENTIFIER);
+        resolver.register(createSpaceDetail(1L, IDENTIFIER));
+        when(spaceDetailRepository.findById(1L)).thenReturn(Optional.of(createSpaceDetail(1L, OTHER_IDENTIFIER)));
+        when(spaceDetailRepository.findByGooglePlacesIdentifier(IDENTIFIER)).thenReturn(Optional.of(spaceDetail));
+
+        assertThat(resolver.resolve(IDENTIFIER)).containsSame(spaceDetail);
+    }
+
+    @Test
+    @DisplayName("여러 식별자를 조회할 때 맵에 없거나 낡은 식별자는 IN 쿼리 한 번으로 조회하고 맵에 등록한다")
+    void findAllExistingWithStaleEntries() {
+        SpaceDetail known = createSpaceDetail(1L, IDENTIFIER);
+        SpaceDetail reinserted = createSpaceDetail(3L, OTHER_IDENTIFIER);
+        resolver.register(known);
+        resolver.register(createSpaceDetail(2L, OTHER_IDENTIFIER));
+        when(spaceDetailRepository.findAllById(any())).thenReturn(List.of(known));
+        when(spaceDetailRepository.findAllByGooglePlacesIdentifierIn(List.of(OTHER_IDENTIFIER))).thenReturn(List.of(reinserted));
+        when(spaceDetailRepository.findById(3L)).thenReturn(Optional.of(reinserted));
+
+        Map<String, SpaceDetail> spaceDetails = resolver.findAllExisting(List.of(IDENTIFIER, OTHER_IDENTIFIER));
+
+        assertThat(spaceDetails).containsOnly(entry(IDENTIFIER, known), entry(OTHER_IDENTIFIER, reinserted));
+        assertThat(resolver.resolve(OTHER_IDENTIFIER)).containsSame(reinserted);
+        verify(spaceDetailRepository, never()).findByGooglePlacesIdentifier(anyString());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 식별자가 있으면 누락된 식별자를 담아 예외가 발생한다")
+    void resolveAllWithMissingIdentifier() {
+        when(spaceDetailRepository.findAllByGooglePlacesIdentifierIn(any())).thenReturn(List.of(createSpaceDetail(1L, IDENTIFIER)));
+
+        assertThatThrownBy(() -> resolver.resolveAll(List.of(IDENTIFIER, OTHER_IDENTIFIER)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining(OTHER_IDENTIFIER)
+                .hasMessageNotContaining(IDENTIFIER);
+    }
+
+    private static SpaceDetail createSpaceDetail(long id, String googlePlacesIdentifier) {
+        SpaceDetail spaceDetail = SpaceDetail.builder()
+                .googlePlacesIdentifier(googlePlacesIdentifier)
+                .spaceName("RESOLVER_TEST_NAME")
+                .location("RESOLVER_TEST_LOCATION")
+                .spaceType(SpaceType.TYPE)
+                .link("RESOLVER_TEST_LINK")
+                .build();
+        ReflectionTestUtils.setField(spaceDetail, "id", id);
+
+        return spaceDetail;
+    }
+
+    private static SpaceDetailRepository.IdentifierView identifierView(long id, String googlePlacesIdentifier) {
+        return new SpaceDetailRepository.IdentifierView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getGooglePlacesIdentifier() {
+                return googlePlacesIdentifier;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,136 @@
+package success.planfit.space.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import success.planfit.course.dto.SpaceDetailInfoDto;
+import success.planfit.entity.space.SpaceDetail;
+import success.planfit.entity.space.SpaceType;
+import success.planfit.global.photo.PhotoProvider;
+import success.planfit.repository.SpaceDetailRepository;
+import success.planfit.repository.SpacePhotoRepository;
+import success.planfit.util.TestUtil;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class SpaceDetailUpsertServiceTest {
+
+    private static final String GOOGLE_PLACES_IDENTIFIER = "UPSERT_TEST_PLACE_ID";
+    private static final byte[] PHOTO_A = createImage(0xFF0000);
+    private static final byte[] PHOTO_B = createImage(0x00FF00);
+    private static final byte[] PHOTO_C = createImage(0x0000FF);
+    private static final byte[] NOT_IMAGE = "upsert-not-image".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private TestUtil util;
+
+    @Autowired
+    private SpaceDetailUpsertService spaceDetailUpsertService;
+    @Autowired
+    private SpaceDetailRepository spaceDetailRepository;
+    @Autowired
+    private SpacePhotoRepository spacePhotoRepository;
+
+    @Test
+    @DisplayName("한 응답 안에서 같은 내용의 사진과 같은 장소는 한 번만 저장한다")
+    void deduplicateWithinPayload() {
+        List<SpaceDetailInfoDto> result = spaceDetailUpsertService.upsert(List.of(
+                createInfoDto("UPSERT_TEST_NAME", PHOTO_A, PHOTO_A, PHOTO_B),
+                createInfoDto("UPSERT_TEST_NAME", PHOTO_C)
+        ));
+        util.clearEntityManager(em);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().getSpacePhotos()).containsExactly(PhotoProvider.hash(PHOTO_A), PhotoProvider.hash(PHOTO_B));
+        assertThat(findStoredHashes()).containsExactlyInAnyOrder(PhotoProvider.hash(PHOTO_A), PhotoProvider.hash(PHOTO_B));
+    }
+
+    @Test
+    @DisplayName("이미 저장된 장소는 새 행을 만들지 않고, 저장되지 않은 내용의 사진만 추가한다")
+    void addOnlyNewPhotosToExistingSpace() {
+        spaceDetailUpsertService.upsert(List.of(createInfoDto("UPSERT_TEST_NAME", PHOTO_A, PHOTO_B)));
+        util.clearEntityManager(em);
+
+        List<SpaceDetailInfoDto> result = spaceDetailUpsertService.upsert(List.of(createInfoDto("UPSERT_TEST_NEW_NAME", PHOTO_B, PHOTO_C)));
+        util.clearEntityManager(em);
+
+        SpaceDetail spaceDetail = spaceDetailRepository.findByGooglePlacesIdentifier(GOOGLE_PLACES_IDENTIFIER)
+                .orElseThrow();
+        assertThat(spaceDetail.getSpaceName()).isEqualTo("UPSERT_TEST_NEW_NAME");
+        assertThat(result.getFirst().getSpacePhotos()).containsExactly(PhotoProvider.hash(PHOTO_B), PhotoProvider.hash(PHOTO_C));
+        assertThat(findStoredHashes()).containsExactlyInAnyOrder(
+                PhotoProvider.hash(PHOTO_A),
+                PhotoProvider.hash(PHOTO_B),
+                PhotoProvider.hash(PHOTO_C)
+        );
+    }
+
+    @Test
+    @DisplayName("이미지로 해석할 수 없는 사진은 건너뛰고 나머지 사진만 저장한다")
+    void skipUndecodablePhoto() {
+        List<SpaceDetailInfoDto> result = spaceDetailUpsertService.upsert(List.of(createInfoDto("UPSERT_TEST_NAME", NOT_IMAGE, PHOTO_A)));
+        util.clearEntityManager(em);
+
+        assertThat(result.getFirst().getSpacePhotos()).containsExactly(PhotoProvider.hash(PHOTO_A));
+        assertThat(findStoredHashes()).containsExactly(PhotoProvider.hash(PHOTO_A));
+    }
+
+    private List<String> findStoredHashes() {
+        SpaceDetail spaceDetail = spaceDetailRepository.findByGooglePlacesIdentifier(GOOGLE_PLACES_IDENTIFIER)
+                .orElseThrow();
+
+        return spacePhotoRepository.findContentHashesBySpaceDetailIdIn(List.of(spaceDetail.getId())).stream()
+                .map(SpacePhotoRepository.ContentHashView::getContentHash)
+                .toList();
+    }
+
+    private static byte[] createImage(int rgb) {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, rgb);
+            }
+        }
+
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", outputStream);
+
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SpaceDetailInfoDto createInfoDto(String spaceName, byte[]... photos) {
+        return SpaceDetailInfoDto.builder()
+                .googlePlacesIdentifier(GOOGLE_PLACES_IDENTIFIER)
+                .spaceName(spaceName)
+                .location("UPSERT_TEST_LOCATION")
+                .spaceType(SpaceType.TYPE)
+                .link("UPSERT_TEST_LINK")
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .spacePhotos(Arrays.stream(photos)
+                        .map(PhotoProvider::encode)
+                        .toList())
+                .build();
+    }
+
+}
@@ -0,0 +1,138 @@
+package success.planfit.space.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import success.planfit.entity.space.SpaceDetail;
+import success.planfit.entity.space.SpaceType;
+import success.planfit.entity.user.IdentityType;
+import success.planfit.entity.user.PlanfitUser;
+import success.planfit.entity.user.User;
+import success.planfit.repository.SpaceDetailRepository;
+import success.planfit.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 여러 유저가 같은 장소에 동시에 좋아요/좋아요 취소를 요청해도 좋아요 수가 유실되지 않는지 검증
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고 직접 정리함
+ */
+@SpringBootTest
+class SpaceLikeConcurrencyTest {
+
+    private static final int USER_COUNT = 32;
+    private static final int THREAD_COUNT = 16;
+    private static final String GOOGLE_PLACES_IDENTIFIER = "CONCURRENCY_TEST_PLACE_ID";
+
+    @Autowired
+    private SpaceLikeService spaceLikeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SpaceDetailRepository spaceDetailRepository;
+
+    private SpaceDetail spaceDetail;
+    private List<User> users;
+
+    @BeforeEach
+    void initialize() {
+        spaceDetail = spaceDetailRepository.save(SpaceDetail.builder()
+                .googlePlacesIdentifier(GOOGLE_PLACES_IDENTIFIER)
+                .spaceName("CONCURRENCY_TEST_NAME")
+                .location("CONCURRENCY_TEST_LOCATION")
+                .spaceType(SpaceType.TYPE)
+                .link("CONCURRENCY_TEST_LINK")
+                .build());
+
+        users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(createUser(i)));
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        userRepository.deleteAll(users);
+        spaceDetailRepository.deleteById(spaceDetail.getId());
+    }
+
+    @Test
+    @DisplayName("동시에 좋아요와 좋아요 취소를 요청해도 좋아요 수가 정확히 집계된다")
+    void likeAndUnlikeConcurrently() throws Exception {
+        runConcurrently(userId -> spaceLikeService.likeSpace(GOOGLE_PLACES_IDENTIFIER, userId));
+
+        assertThat(findLikeCount()).isEqualTo(USER_COUNT);
+
+        runConcurrently(userId -> spaceLikeService.unlikeSpace(GOOGLE_PLACES_IDENTIFIER, userId));
+
+        assertThat(findLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 좋아요/좋아요 취소 요청이 동시에 반복되어도 한 번만 반영된다")
+    void likeAndUnlikeIdempotently() throws Exception {
+        long userId = users.getFirst().getId();
+
+        runConcurrently(ignored -> spaceLikeService.likeSpace(GOOGLE_PLACES_IDENTIFIER, userId));
+
+        assertThat(findLikeCount()).isEqualTo(1);
+
+        runConcurrently(ignored -> spaceLikeService.unlikeSpace(GOOGLE_PLACES_IDENTIFIER, userId));
+
+        assertThat(findLikeCount()).isZero();
+    }
+
+    private void runConcurrently(LongConsumer request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User user : users) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    request.accept(user.getId());
+                    return null;
+                }));
+            }
+
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long findLikeCount() {
+        return spaceDetailRepository.findById(spaceDetail.getId())
+                .orElseThrow()
+                .getLikeCount();
+    }
+
+    private PlanfitUser createUser(int index) {
+        return PlanfitUser.builder()
+                .loginId("concurrency_user_" + index)
+                .password("PASSWORD")
+                .name("CONCURRENCY_USER_" + index)
+                .phoneNumber("010" + String.format("%08d", index))
+                .birthOfDate(LocalDate.of(2000, 1, 1))
+                .identity(IdentityType.STUDENT)
+                .email("concurrency" + index + "@email.com")
+                .build();
+    }
+
+}
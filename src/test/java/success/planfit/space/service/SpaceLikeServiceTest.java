@@ -0,0 +1,88 @@
+package success.planfit.space.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import success.planfit.entity.space.SpaceDetail;
+import success.planfit.entity.user.User;
+import success.planfit.fixture.SpaceDetailFixture;
+import success.planfit.fixture.UserFixture;
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.paging.KeysetPaging;
+import success.planfit.repository.SpaceDetailRepository;
+import success.planfit.repository.UserRepository;
+import success.planfit.space.dto.response.SpaceLikeResponseDto;
+import success.planfit.util.TestUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class SpaceLikeServiceTest {
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private TestUtil util;
+
+    @Autowired
+    private SpaceLikeService spaceLikeService;
+    @Autowired
+    private SpaceDetailRepository spaceDetailRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User userA;
+    private User userB;
+
+    @BeforeEach
+    void initialize() {
+        userA = userRepository.save(UserFixture.USER_A.createInstance());
+        userB = userRepository.save(UserFixture.USER_B.createInstance());
+    }
+
+    @Test
+    @DisplayName("좋아요한 장소를 최근에 좋아요한 순으로 조회하고, 커서를 전달하면 해당 좋아요 다음부터 조회한다")
+    void getLikedSpacesWithCursor() {
+        List<SpaceDetail> spaceDetails = spaceDetailRepository.saveAll(SpaceDetailFixture.createInstances());
+        for (SpaceDetail spaceDetail : spaceDetails) {
+            spaceLikeService.likeSpace(spaceDetail.getGooglePlacesIdentifier(), userA.getId());
+        }
+        spaceLikeService.likeSpace(spaceDetails.getFirst().getGooglePlacesIdentifier(), userB.getId());
+        util.clearEntityManager(em);
+
+        List<SpaceLikeResponseDto> firstPage = spaceLikeService.getLikedSpaces(userA.getId(), null, null, 2);
+        SpaceLikeResponseDto lastOfFirstPage = firstPage.getLast();
+        List<SpaceLikeResponseDto> secondPage = spaceLikeService.getLikedSpaces(userA.getId(), lastOfFirstPage.getLikedAt(), lastOfFirstPage.getLikeId(), 2);
+
+        assertThat(firstPage).extracting(SpaceLikeResponseDto::getGooglePlacesIdentifier)
+                .containsExactly(spaceDetails.get(2).getGooglePlacesIdentifier(), spaceDetails.get(1).getGooglePlacesIdentifier());
+        assertThat(secondPage).extracting(SpaceLikeResponseDto::getGooglePlacesIdentifier)
+                .containsExactly(spaceDetails.get(0).getGooglePlacesIdentifier());
+    }
+
+    @ParameterizedTest
+    @DisplayName("허용 범위를 벗어난 페이지 크기를 전달하면 예외가 발생한다")
+    @ValueSource(ints = {0, KeysetPaging.MAXIMUM_PAGE_SIZE + 1})
+    void getLikedSpacesWithInvalidPageSize(int size) {
+        assertThatThrownBy(() -> spaceLikeService.getLikedSpaces(userA.getId(), null, null, size))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+    @Test
+    @DisplayName("커서의 좋아요 시각과 ID 중 하나만 전달하면 예외가 발생한다")
+    void getLikedSpacesWithPartialCursor() {
+        assertThatThrownBy(() -> spaceLikeService.getLikedSpaces(userA.getId(), LocalDateTime.now(), null, 10))
+                .isInstanceOf(IllegalRequestException.class);
+    }
+
+}
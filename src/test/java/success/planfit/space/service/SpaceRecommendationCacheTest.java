@@ -0,0 +1,86 @@
+package success.planfit.space.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import success.planfit.course.dto.SpaceDetailInfoDto;
+import success.planfit.space.dto.request.SpaceDetailRequestDto;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SpaceRecommendationCacheTest {
+
+    private static final int GEOHASH_PRECISION = 6;
+    private static final double RADIUS_BUCKET_METERS = 500;
+
+    private SpaceRecommendationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SpaceRecommendationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(30), GEOHASH_PRECISION, RADIUS_BUCKET_METERS);
+    }
+
+    @Test
+    @DisplayName("같은 geohash 격자, 같은 반경 구간, 같은 장소 유형의 요청은 같은 키를 가진다")
+    void sameKeyForNearbyRequests() {
+        SpaceRecommendationCache.RecommendationKey key = createKey(37.566500, 126.978000, "CAFE", 1_100);
+        SpaceRecommendationCache.RecommendationKey nearbyKey = createKey(37.566501, 126.978001, "CAFE", 1_400);
+
+        assertThat(nearbyKey).isEqualTo(key);
+        assertThat(key.geoHash()).hasSize(GEOHASH_PRECISION);
+        assertThat(key.radiusBucket()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("격자, 반경 구간, 장소 유형 중 하나라도 다르면 다른 키를 가진다")
+    void differentKeyForDifferentRequests() {
+        SpaceRecommendationCache.RecommendationKey key = createKey(37.5665, 126.9780, "CAFE", 1_000);
+
+        assertThat(createKey(35.1796, 129.0756, "CAFE", 1_000)).isNotEqualTo(key);
+        assertThat(createKey(37.5665, 126.9780, "CAFE", 1_001)).isNotEqualTo(key);
+        assertThat(createKey(37.5665, 126.9780, "RESTAURANT", 1_000)).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 요청은 키를 만들지 않는다")
+    void noKeyWithoutCoordinates() {
+        assertThat(cache.createKey(createRequestDto(null, 126.9780, "CAFE", 1_000))).isEmpty();
+        assertThat(cache.createKey(createRequestDto(37.5665, null, "CAFE", 1_000))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장한 결과는 같은 키로 조회되고, 다른 키로는 조회되지 않는다")
+    void getCachedRecommendations() {
+        SpaceRecommendationCache.RecommendationKey key = createKey(37.5665, 126.9780, "CAFE", 1_000);
+        List<SpaceDetailInfoDto> recommendations = List.of(SpaceDetailInfoDto.builder()
+                .googlePlacesIdentifier("CAFE_ID")
+                .spacePhotos(List.of("a".repeat(64)))
+                .build());
+
+        cache.put(key, recommendations);
+
+        assertThat(cache.get(createKey(37.566501, 126.978001, "CAFE", 900))).hasValue(recommendations);
+        assertThat(cache.get(createKey(37.5665, 126.9780, "RESTAURANT", 1_000))).isEmpty();
+    }
+
+    private SpaceRecommendationCache.RecommendationKey createKey(Double latitude, Double longitude, String spaceType, double radius) {
+        return cache.createKey(createRequestDto(latitude, longitude, spaceType, radius))
+                .orElseThrow();
+    }
+
+    private static SpaceDetailRequestDto createRequestDto(Double latitude, Double longitude, String spaceType, double radius) {
+        SpaceDetailRequestDto requestDto = new SpaceDetailRequestDto();
+        ReflectionTestUtils.setField(requestDto, "latitude", latitude);
+        ReflectionTestUtils.setField(requestDto, "longitude", longitude);
+        ReflectionTestUtils.setField(requestDto, "spaceType", spaceType);
+        ReflectionTestUtils.setField(requestDto, "radius", radius);
+
+        return requestDto;
+    }
+
+}
@@ -0,0 +1,95 @@
+package success.planfit.space.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import success.planfit.course.dto.SpaceDetailInfoDto;
+import success.planfit.global.photo.PhotoProvider;
+import success.planfit.repository.ScheduleRepository;
+import success.planfit.repository.SpaceDetailRepository;
+import success.planfit.space.dto.request.SpaceDetailRequestDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SpaceServiceTest {
+
+    private static final byte[] PHOTO = "photo".getBytes(StandardCharsets.UTF_8);
+
+    private AiRecommendationClient aiRecommendationClient;
+    private SpaceDetailUpsertService spaceDetailUpsertService;
+    private SpaceService spaceService;
+
+    @BeforeEach
+    void setUp() {
+        aiRecommendationClient = mock(AiRecommendationClient.class);
+        spaceDetailUpsertService = mock(SpaceDetailUpsertService.class);
+        SpaceRecommendationCache spaceRecommendationCache = new SpaceRecommendationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(30), 6, 500);
+
+        spaceService = new SpaceService(
+                mock(ScheduleRepository.class),
+                mock(SpaceDetailRepository.class),
+                spaceDetailUpsertService,
+                aiRecommendationClient,
+                spaceRecommendationCache
+        );
+    }
+
+    @Test
+    @DisplayName("AI가 보낸 Base64 사진 대신 저장된 사진의 해시를 반환하고 캐시한다")
+    void returnAndCacheStoredPhotoUrls() {
+        SpaceDetailInfoDto recommendation = createInfoDto(PhotoProvider.encode(PHOTO));
+        SpaceDetailInfoDto storedRecommendation = createInfoDto(PhotoProvider.hash(PHOTO));
+        when(aiRecommendationClient.recommend(any())).thenReturn(List.of(recommendation));
+        when(spaceDetailUpsertService.upsert(List.of(recommendation))).thenReturn(List.of(storedRecommendation));
+
+        List<SpaceDetailInfoDto> firstResult = spaceService.getSpaceDetails(createRequestDto());
+        List<SpaceDetailInfoDto> cachedResult = spaceService.getSpaceDetails(createRequestDto());
+
+        assertThat(firstResult).containsExactly(storedRecommendation);
+        assertThat(cachedResult).containsExactly(storedRecommendation);
+        assertThat(cachedResult.getFirst().getSpacePhotos()).containsExactly(PhotoProvider.hash(PHOTO));
+        verify(aiRecommendationClient, times(1)).recommend(any());
+        verify(spaceDetailUpsertService, times(1)).upsert(any());
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 요청은 캐시하지 않고 매번 AI 서버에 요청한다")
+    void skipCacheWithoutCoordinates() {
+        when(aiRecommendationClient.recommend(any())).thenReturn(List.of());
+        when(spaceDetailUpsertService.upsert(any())).thenReturn(List.of());
+        SpaceDetailRequestDto requestDto = createRequestDto();
+        ReflectionTestUtils.setField(requestDto, "latitude", null);
+
+        spaceService.getSpaceDetails(requestDto);
+        spaceService.getSpaceDetails(requestDto);
+
+        verify(aiRecommendationClient, times(2)).recommend(any());
+    }
+
+    private static SpaceDetailInfoDto createInfoDto(String spacePhoto) {
+        return SpaceDetailInfoDto.builder()
+                .googlePlacesIdentifier("CAFE_ID")
+                .spaceName("CAFE_NAME")
+                .spacePhotos(List.of(spacePhoto))
+                .build();
+    }
+
+    private static SpaceDetailRequestDto createRequestDto() {
+        SpaceDetailRequestDto requestDto = new SpaceDetailRequestDto();
+        ReflectionTestUtils.setField(requestDto, "latitude", 37.5665);
+        ReflectionTestUtils.setField(requestDto, "longitude", 126.9780);
+        ReflectionTestUtils.setField(requestDto, "spaceType", "CAFE");
+        ReflectionTestUtils.setField(requestDto, "radius", 1_000.0);
+
+        return requestDto;
+    }
+
+}
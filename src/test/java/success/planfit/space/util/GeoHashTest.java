@@ -0,0 +1,31 @@
+package success.planfit.space.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("위도와 경도를 geohash 문자열로 변환한다")
+    void encode() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(37.5665, 126.9780, 6)).isEqualTo("wydm9q");
+    }
+
+    @Test
+    @DisplayName("가까운 좌표는 같은 geohash로 양자화된다")
+    void nearbyCoordinatesShareGeoHash() {
+        assertThat(GeoHash.encode(37.56650, 126.97800, 6))
+                .isEqualTo(GeoHash.encode(37.56660, 126.97810, 6));
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 좌표를 전달하면 예외가 발생한다")
+    void ifUseOutOfRangeCoordinateThenThrowException() {
+        assertThatThrownBy(() -> GeoHash.encode(91.0, 0.0, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,132 @@
+package success.planfit.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import success.planfit.global.exception.ExternalApiException;
+import success.planfit.global.exception.IllegalRequestException;
+import success.planfit.global.http.HttpClientConfig;
+import success.planfit.user.dto.GoogleAccessTokenDto;
+import success.planfit.user.dto.GoogleUserInfoDto;
+import success.planfit.util.StubHttpServer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static success.planfit.util.StubHttpServer.respondJson;
+import static success.planfit.util.StubHttpServer.sleep;
+
+class OAuthClientTest {
+
+    private static final String PROVIDER = "stub";
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+    private static final long SLOW_RESPONSE_MILLIS = 2_000;
+
+    private StubHttpServer stubProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private OAuthClient client;
+
+    private final AtomicReference<String> receivedForm = new AtomicReference<>();
+    private final AtomicReference<String> receivedAuthorization = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubProvider = StubHttpServer.start()
+                .handle("/token", exchange -> {
+                    receivedForm.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                    respondJson(exchange, 200, "{\"access_token\":\"provider-access-token\",\"expires_in\":3599}");
+                })
+                .handle("/userinfo", exchange -> {
+                    receivedAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+                    respondJson(exchange, 200, "{\"id\":\"1234\",\"email\":\"user@planfit.com\",\"name\":\"플랜핏\",\"given_name\":\"핏\",\"picture\":\"http://localhost/photo\"}");
+                })
+                .handle("/unauthorized", exchange -> respondJson(exchange, 401, "{\"error\":\"invalid_token\"}"))
+                .handle("/unavailable", exchange -> respondJson(exchange, 503, "{\"error\":\"unavailable\"}"))
+                .handle("/slow", exchange -> {
+                    sleep(SLOW_RESPONSE_MILLIS);
+                    respondJson(exchange, 200, "{}");
+                });
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new OAuthClient(
+                HttpClientConfig.createPooledRestTemplate(Duration.ofMillis(500), READ_TIMEOUT, Duration.ofMillis(500), 5, Duration.ofSeconds(30)),
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubProvider.stop();
+    }
+
+    @Test
+    @DisplayName("인가 코드를 form 본문으로 보내고, 응답의 액세스 토큰을 파싱해 SUCCESS로 기록한다")
+    void postForm() {
+        LinkedMultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("code", "authorization-code");
+        params.add("grant_type", "authorization_code");
+
+        GoogleAccessTokenDto result = client.postForm(PROVIDER, "token", urlOf("/token"), params, GoogleAccessTokenDto.class);
+
+        assertThat(result.getAccessToken()).isEqualTo("provider-access-token");
+        assertThat(receivedForm.get()).contains("code=authorization-code", "grant_type=authorization_code");
+        assertThat(countOf("token", "SUCCESS")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("액세스 토큰을 Bearer 헤더로 보내고, snake_case 응답을 DTO로 파싱한다")
+    void getWithBearer() {
+        GoogleUserInfoDto result = client.getWithBearer(PROVIDER, "user-info", urlOf("/userinfo"), "provider-access-token", GoogleUserInfoDto.class);
+
+        assertThat(receivedAuthorization.get()).isEqualTo("Bearer provider-access-token");
+        assertThat(result.getId()).isEqualTo("1234");
+        assertThat(result.getGivenName()).isEqualTo("핏");
+        assertThat(result.getPictureUrl()).isEqualTo("http://localhost/photo");
+        assertThat(countOf("user-info", "SUCCESS")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제공자가 4xx를 응답하면 잘못된 요청 예외가 발생하고 CLIENT_ERROR로 기록한다")
+    void ifProviderRejectsRequestThenThrowIllegalRequestException() {
+        assertThatThrownBy(() -> client.getWithBearer(PROVIDER, "user-info", urlOf("/unauthorized"), "expired", GoogleUserInfoDto.class))
+                .isInstanceOf(IllegalRequestException.class);
+        assertThat(countOf("user-info", "CLIENT_ERROR")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제공자가 5xx를 응답하면 외부 API 예외가 발생하고 ERROR로 기록한다")
+    void ifProviderRespondsServerErrorThenThrowException() {
+        assertThatThrownBy(() -> client.getWithBearer(PROVIDER, "user-info", urlOf("/unavailable"), "token", GoogleUserInfoDto.class))
+                .isInstanceOf(ExternalApiException.class)
+                .matches(e -> !((ExternalApiException) e).isTimeout());
+        assertThat(countOf("user-info", "ERROR")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제공자가 제한 시간 안에 응답하지 않으면 기다리지 않고 타임아웃 예외가 발생한다")
+    void ifProviderRespondsSlowlyThenThrowTimeoutException() {
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> client.getWithBearer(PROVIDER, "user-info", urlOf("/slow"), "token", GoogleUserInfoDto.class))
+                .isInstanceOf(ExternalApiException.class)
+                .matches(e -> ((ExternalApiException) e).isTimeout());
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(elapsedMillis).isLessThan(SLOW_RESPONSE_MILLIS);
+        assertThat(countOf("user-info", "TIMEOUT")).isEqualTo(1);
+    }
+
+    private String urlOf(String path) {
+        return stubProvider.urlOf(path);
+    }
+
+    private long countOf(String operation, String outcome) {
+        return meterRegistry.timer("external.oauth.request", "provider", PROVIDER, "operation", operation, "outcome", outcome).count();
+    }
+
+}
@@ -12,9 +12,11 @@ import success.planfit.entity.user.IdentityType;
 import success.planfit.entity.user.PlanfitUser;
 import success.planfit.entity.user.User;
 import success.planfit.fixture.UserFixture;
+import success.planfit.global.jwt.RefreshToken;
 import success.planfit.global.jwt.TokenProvider;
 import success.planfit.global.jwt.TokenType;
 import success.planfit.global.photo.PhotoType;
+import success.planfit.repository.RefreshTokenRepository;
 import success.planfit.repository.UserRepository;
 import success.planfit.user.dto.PlanfitUserSignInRequestDto;
 import success.planfit.user.dto.PlanfitUserSignUpRequestDto;
@@ -59,6 +61,8 @@ class PlanfitAuthorizationServiceTest {
     private PlanfitAuthorizationService planfitAuthorizationService;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
 
     private PlanfitUser existUser;
 
@@ -122,9 +126,8 @@ class PlanfitAuthorizationServiceTest {
                     .refreshToken();
             PlanfitUser user = findUserByRequestDto(requestDto);
 
-            String refreshTokenOfUser = user.getRefreshToken()
-                    .getTokenValue();
-            assertThat(returnedRefreshToken).isEqualTo(refreshTokenOfUser);
+            RefreshToken savedRefreshToken = findRefreshToken(returnedRefreshToken);
+            assertThat(savedRefreshToken.getUserId()).isEqualTo(user.getId());
         }
 
         @Test
@@ -204,9 +207,8 @@ class PlanfitAuthorizationServiceTest {
             String returnedRefreshToken = planfitAuthorizationService.planfitSignIn(requestDto)
                     .refreshToken();
 
-            String refreshTokenOfUser = existUser.getRefreshToken()
-                    .getTokenValue();
-            assertThat(returnedRefreshToken).isEqualTo(refreshTokenOfUser);
+            RefreshToken savedRefreshToken = findRefreshToken(returnedRefreshToken);
+            assertThat(savedRefreshToken.getUserId()).isEqualTo(existUser.getId());
         }
 
         @Test
@@ -280,4 +282,9 @@ class PlanfitAuthorizationServiceTest {
         return Long.parseLong(userId);
     }
 
+    private RefreshToken findRefreshToken(String token) {
+        return refreshTokenRepository.findByTokenHash(TokenProvider.hash(token))
+                .orElseThrow(TEST_FAIL);
+    }
+
 }
@@ -0,0 +1,210 @@
+package success.planfit.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.unit.DataSize;
+import success.planfit.global.http.HttpClientConfig;
+import success.planfit.global.photo.LocalPhotoStorage;
+import success.planfit.global.photo.PhotoService;
+import success.planfit.repository.UserRepository;
+import success.planfit.user.event.ProfilePhotoImportRequestedEvent;
+import success.planfit.util.StubHttpServer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static success.planfit.util.StubHttpServer.respond;
+import static success.planfit.util.StubHttpServer.sleep;
+
+class ProfilePhotoImporterTest {
+
+    private static final long USER_ID = 1L;
+    private static final long VERIFY_TIMEOUT_MILLIS = 3_000;
+    private static final DataSize MAXIMUM_FILE_SIZE = DataSize.ofKilobytes(64);
+
+    @TempDir
+    Path storageRoot;
+
+    private StubHttpServer stubCdn;
+    private ThreadPoolTaskExecutor executor;
+    private ThreadPoolTaskScheduler taskScheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private UserRepository userRepository;
+    private ProfilePhotoImporter importer;
+
+    private final AtomicInteger photoRequests = new AtomicInteger();
+    private final AtomicInteger flakyRequests = new AtomicInteger();
+    private final AtomicInteger invalidRequests = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        byte[] photo = createImage();
+        stubCdn = StubHttpServer.start()
+                .handle("/photo", exchange -> {
+                    photoRequests.incrementAndGet();
+                    sleep(200);
+                    respond(exchange, 200, "image/png", photo);
+                })
+                .handle("/flaky", exchange -> {
+                    boolean firstRequest = flakyRequests.incrementAndGet() == 1;
+                    respond(exchange, firstRequest ? 503 : 200, "image/png", firstRequest ? new byte[]{0} : photo);
+                })
+                .handle("/html", exchange -> {
+                    invalidRequests.incrementAndGet();
+                    respond(exchange, 200, "text/html", "<html></html>".getBytes());
+                })
+                .handle("/missing", exchange -> {
+                    invalidRequests.incrementAndGet();
+                    respond(exchange, 404, "text/plain", new byte[]{0});
+                })
+                .handle("/large", exchange -> {
+                    invalidRequests.incrementAndGet();
+                    respond(exchange, 200, "image/png", new byte[(int) MAXIMUM_FILE_SIZE.toBytes() * 2]);
+                })
+                .handle("/large-chunked", exchange -> {
+                    invalidRequests.incrementAndGet();
+                    exchange.getResponseHeaders().add("Content-Type", "image/png");
+                    exchange.sendResponseHeaders(200, 0);
+                    try (OutputStream outputStream = exchange.getResponseBody()) {
+                        outputStream.write(new byte[(int) MAXIMUM_FILE_SIZE.toBytes() * 2]);
+                    } catch (IOException ignored) {
+                        // 클라이언트가 최대 크기까지만 읽고 연결을 닫으면 쓰기가 실패할 수 있음
+                    }
+                });
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.initialize();
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        userRepository = mock(UserRepository.class);
+        importer = new ProfilePhotoImporter(
+                HttpClientConfig.createPooledRestTemplate(Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(500), 2, Duration.ofSeconds(30)),
+                userRepository,
+                new PhotoService(new LocalPhotoStorage(storageRoot), DataSize.ofMegabytes(10), 6000),
+                executor,
+                taskScheduler,
+                meterRegistry,
+                3,
+                Duration.ofMillis(50),
+                MAXIMUM_FILE_SIZE
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        taskScheduler.shutdown();
+        stubCdn.stop();
+    }
+
+    @Test
+    @DisplayName("사진을 내려받아 저장하고, 회원에 사진 해시를 연결한다")
+    void importPhoto() {
+        importer.handle(new ProfilePhotoImportRequestedEvent(USER_ID, urlOf("/photo")));
+
+        verify(userRepository, timeout(VERIFY_TIMEOUT_MILLIS)).updateProfilePhotoHashIfAbsent(eq(USER_ID), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 회원의 요청이 처리 중이면 한 번만 내려받는다")
+    void deduplicateRequests() {
+        importer.request(USER_ID, urlOf("/photo"));
+        importer.request(USER_ID, urlOf("/photo"));
+
+        verify(userRepository, timeout(VERIFY_TIMEOUT_MILLIS)).updateProfilePhotoHashIfAbsent(eq(USER_ID), anyString());
+        assertThat(photoRequests.get()).isEqualTo(1);
+        assertThat(countOf("DUPLICATE")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내려받기에 실패하면 잠시 후 다시 시도한다")
+    void retryWhenDownloadFails() {
+        importer.request(USER_ID, urlOf("/flaky"));
+
+        verify(userRepository, timeout(VERIFY_TIMEOUT_MILLIS)).updateProfilePhotoHashIfAbsent(eq(USER_ID), anyString());
+        assertThat(flakyRequests.get()).isEqualTo(2);
+        assertThat(countOf("RETRIED")).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @DisplayName("이미지가 아니거나 최대 크기를 넘는 응답, 4xx 응답은 다시 시도하지 않고 INVALID로 기록한다")
+    @ValueSource(strings = {"/html", "/missing", "/large", "/large-chunked"})
+    void rejectInvalidResponseWithoutRetry(String path) {
+        importer.request(USER_ID, urlOf(path));
+
+        awaitOutcome("INVALID");
+        assertThat(countOf("INVALID")).isEqualTo(1);
+        assertThat(countOf("RETRIED")).isZero();
+        assertThat(invalidRequests.get()).isEqualTo(1);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("재시도 예약이 거절되면 처리 중 표시를 지워, 같은 회원의 이후 요청을 막지 않는다")
+    void releasePendingWhenRetryIsRejected() {
+        taskScheduler.shutdown();
+
+        importer.request(USER_ID, urlOf("/flaky"));
+        awaitOutcome("REJECTED");
+        importer.request(USER_ID, urlOf("/photo"));
+
+        verify(userRepository, timeout(VERIFY_TIMEOUT_MILLIS)).updateProfilePhotoHashIfAbsent(eq(USER_ID), anyString());
+        assertThat(countOf("REJECTED")).isEqualTo(1);
+        assertThat(countOf("DUPLICATE")).isZero();
+    }
+
+    @Test
+    @DisplayName("사진 URL이 없으면 아무것도 하지 않는다")
+    void ignoreEmptyUrl() {
+        importer.request(USER_ID, null);
+
+        verifyNoInteractions(userRepository);
+    }
+
+    private String urlOf(String path) {
+        return stubCdn.urlOf(path);
+    }
+
+    private void awaitOutcome(String outcome) {
+        long deadline = System.nanoTime() + Duration.ofMillis(VERIFY_TIMEOUT_MILLIS).toNanos();
+        while (countOf(outcome) == 0 && System.nanoTime() < deadline) {
+            sleep(20);
+        }
+    }
+
+    private double countOf(String outcome) {
+        return meterRegistry.counter("photo.profile-import", "outcome", outcome).count();
+    }
+
+    private static byte[] createImage() throws IOException {
+        BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+}
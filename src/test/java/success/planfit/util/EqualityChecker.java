@@ -72,7 +72,7 @@ public class EqualityChecker {
 
     public boolean check(Space space, SpaceResponseDto spaceDto) {
         SpaceDetail spaceDetail = space.getSpaceDetail();
-        List<String> spacePhotos = getEncodedSpacePhotos(spaceDetail);
+        List<String> spacePhotos = getSpacePhotoHashes(spaceDetail);
 
         return space.getSequence().equals(spaceDto.getSequence()) &&
                 spaceDetail.getGooglePlacesIdentifier().equals(spaceDto.getGooglePlacesIdentifier()) &&
@@ -106,7 +106,7 @@ public class EqualityChecker {
     }
 
     public boolean check(PlanfitUser user, PlanfitUserSignUpRequestDto requestDto) {
-        if (!isEqualPhotos(user.getProfilePhoto(), requestDto.getProfilePhoto())) {
+        if (!isEqualPhotos(user.getProfilePhotoHash(), requestDto.getProfilePhoto())) {
             return false;
         }
 
@@ -147,21 +147,19 @@ public class EqualityChecker {
         return true;
     }
 
-    private List<String> getEncodedSpacePhotos(SpaceDetail spaceDetail) {
+    private List<String> getSpacePhotoHashes(SpaceDetail spaceDetail) {
         return spaceDetail.getSpacePhotos().stream()
-                .map(SpacePhoto::getValue)
-                .map(PhotoProvider::encode)
+                .map(SpacePhoto::getContentHash)
                 .toList();
     }
 
-    private boolean isEqualPhotos(byte[] photo1, String photo2) {
-        if (photo1 == null && photo2 == null) {
+    private boolean isEqualPhotos(String photoHash1, String photo2) {
+        if (photoHash1 == null && photo2 == null) {
             return true;
         }
 
-        if (photo1 != null) {
-            String encodedPhoto1 = PhotoProvider.encode(photo1);
-            return encodedPhoto1.equals(photo2);
+        if (photoHash1 != null && photo2 != null) {
+            return photoHash1.equals(PhotoProvider.hash(PhotoProvider.decode(photo2)));
         }
 
         return false;
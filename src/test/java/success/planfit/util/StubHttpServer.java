@@ -0,0 +1,73 @@
+package success.planfit.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * 외부 HTTP 서버(OAuth 제공자, AI 서버, 사진 CDN)를 흉내 내는 테스트용 스텁 서버
+ * localhost의 임의 포트에서 실행되며, 경로별로 핸들러를 등록해 사용함
+ */
+public class StubHttpServer {
+
+    private final HttpServer server;
+
+    private StubHttpServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static StubHttpServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        return new StubHttpServer(server);
+    }
+
+    public StubHttpServer handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+
+        return this;
+    }
+
+    public String urlOf(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public static void respondJson(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 본문 길이를 Content-Length로 알리고 응답하는 메서드
+     * contentType이 null이면 Content-Type 헤더를 보내지 않음
+     */
+    public static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    public static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}